@@ -0,0 +1,47 @@
+package com.alejandro.mtoconfiguration.configuration;
+
+import com.alejandro.mtoconfiguration.enums.IStatusEnum;
+import com.alejandro.mtoconfiguration.enums.StatusEnumDeserializer;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Registers a {@link StatusEnumDeserializer} for every {@link IStatusEnum} enum of the {@code enums} package, so
+ * request bodies accept the code (as well as the name or description) of the constant.
+ */
+@Configuration
+public class StatusEnumJacksonConfiguration {
+
+    private static final String ENUMS_PACKAGE = "com.alejandro.mtoconfiguration.enums";
+
+    @Bean
+    public JacksonModule statusEnumModule() {
+        SimpleModule module = new SimpleModule("status-enums");
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(IStatusEnum.class));
+
+        scanner.findCandidateComponents(ENUMS_PACKAGE).stream()
+                .map(beanDefinition -> ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), getClass().getClassLoader()))
+                .filter(Class::isEnum)
+                .forEach(type -> addDeserializer(module, type));
+
+        return module;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addDeserializer(SimpleModule module, Class<?> enumType) {
+        module.addDeserializer((Class) enumType, new StatusEnumDeserializer(enumType));
+    }
+}
@@ -6,6 +6,11 @@ import lombok.Getter;
 public enum RailwayInfrastructureExceptions {
     RIE000("Excepción no controlada"),
     RIE001("Faltan parámetros requeridos"),
+    RIE002("El cursor de paginación no es válido para la búsqueda solicitada"),
+    RIE003("El campo de ordenación no existe en la entidad"),
+    RIE004("El valor del filtro no es válido"),
+    RIE005("El servicio externo está saturado, inténtelo más tarde"),
+    RIE006("Se ha superado el tiempo máximo de respuesta del servicio externo"),
     ;
     private final String message;
     RailwayInfrastructureExceptions(String message) {
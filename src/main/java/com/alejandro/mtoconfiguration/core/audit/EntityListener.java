@@ -1,4 +1,33 @@
 package com.alejandro.mtoconfiguration.core.audit;
 
+import com.alejandro.mtoconfiguration.core.events.AfterCommitCollector;
+import com.alejandro.mtoconfiguration.core.events.PostgresEntityChangeBus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener of every entity that collects the entity types written by a transaction and, once it has committed,
+ * publishes them on the {@link PostgresEntityChangeBus} so the other nodes refresh their caches. Writes must run in
+ * a Spring-managed transaction (see {@link AfterCommitCollector}).
+ */
+@Component
 public class EntityListener {
+
+    private final AfterCommitCollector<Class<?>> changedTypes;
+
+    public EntityListener(ObjectProvider<PostgresEntityChangeBus> entityChangeBus) {
+        this.changedTypes = new AfterCommitCollector<>("Entity change publication",
+                types -> entityChangeBus.ifAvailable(bus -> bus.publish(types)));
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        changedTypes.add(Hibernate.getClass(entity));
+    }
 }
@@ -1,10 +1,7 @@
 package com.alejandro.mtoconfiguration.core.audit;
 
+import com.alejandro.mtoconfiguration.core.security.PrincipalSnapshot;
 import org.springframework.data.domain.AuditorAware;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -14,15 +11,6 @@ public class SpringSecurityAuditorAware implements AuditorAware<String> {
 
     @Override
     public Optional<String> getCurrentAuditor() {
-        return Optional.of(SecurityContextHolder.getContext())
-                .map(SecurityContext::getAuthentication)
-                .filter(Authentication::isAuthenticated)
-                .map(Authentication::getPrincipal)
-                .map(principal -> {
-                    if (principal instanceof Jwt jwt) {
-                        return jwt.getClaimAsString("preferred_username");
-                    }
-                    return principal.toString();
-                });
+        return PrincipalSnapshot.current().getAuditor();
     }
 }
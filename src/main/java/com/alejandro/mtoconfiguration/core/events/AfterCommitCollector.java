@@ -0,0 +1,60 @@
+package com.alejandro.mtoconfiguration.core.events;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects values (typically the entity types written) during the current Spring transaction and hands them to
+ * the action once, after the transaction has committed; rolled back transactions never reach it.
+ * <p>
+ * It must be called inside a Spring-managed transaction: outside one the write may not be committed yet (JPA
+ * callbacks run at flush time), so acting on it right away would publish uncommitted data. That case fails with
+ * an {@link IllegalStateException} instead.
+ */
+public final class AfterCommitCollector<T> {
+
+    private final Object resourceKey = new Object();
+    private final String name;
+    private final Consumer<Set<T>> action;
+
+    public AfterCommitCollector(String name, Consumer<Set<T>> action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    public void add(T value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException(name + " requires a Spring-managed transaction, "
+                    + "changes written outside one would be propagated before commit");
+        }
+
+        collected().add(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<T> collected() {
+        Set<T> collected = (Set<T>) TransactionSynchronizationManager.getResource(resourceKey);
+        if (collected != null) {
+            return collected;
+        }
+
+        Set<T> newCollected = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(resourceKey, newCollected);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.accept(newCollected);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+        return newCollected;
+    }
+}
@@ -0,0 +1,26 @@
+package com.alejandro.mtoconfiguration.core.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the cross-node entity change bus, mapped from "configuration.modules.entity-change-bus".
+ *
+ * Fields include:
+ * - channel: PostgreSQL LISTEN/NOTIFY channel shared by every node.
+ * - pollTimeout: max time the listener blocks waiting for notifications.
+ * - reconnectDelay / maxReconnectDelay: backoff between attempts to reopen the listen connection.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.modules.entity-change-bus")
+public class EntityChangeBusConfig {
+    private boolean enabled = true;
+    private String channel = "mto_entity_changes";
+    private Duration pollTimeout = Duration.ofMillis(500);
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+    private Duration maxReconnectDelay = Duration.ofSeconds(30);
+}
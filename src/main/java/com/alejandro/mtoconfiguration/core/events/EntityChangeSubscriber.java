@@ -0,0 +1,22 @@
+package com.alejandro.mtoconfiguration.core.events;
+
+/**
+ * Local cache or view that must be refreshed when entities of some type change on any node of the service
+ */
+public interface EntityChangeSubscriber {
+
+    /**
+     * Whether changes of the entity type are relevant; only observed types are published
+     */
+    boolean supports(Class<?> entityType);
+
+    /**
+     * Entities of the type were written by a transaction committed on another node
+     */
+    void onChange(Class<?> entityType);
+
+    /**
+     * Notifications may have been missed (the listen connection was lost); everything must be reloaded
+     */
+    void resync();
+}
@@ -0,0 +1,229 @@
+package com.alejandro.mtoconfiguration.core.events;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Propagates committed entity changes between the nodes of the service through PostgreSQL {@code LISTEN/NOTIFY},
+ * without any extra infrastructure.
+ * <p>
+ * {@code EntityListener} publishes the entity types written by each committed transaction; only types observed by
+ * some {@link EntityChangeSubscriber} are sent, as {@code "<node>|<type>,<type>"} on the configured channel. Every
+ * node keeps one pooled connection checked out to listen on, and dispatches the notifications of other nodes to its
+ * subscribers within milliseconds. When the listen connection is lost it is reopened with backoff and every
+ * subscriber is resynced, since notifications sent meanwhile are lost.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "configuration.modules.entity-change-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class PostgresEntityChangeBus implements SmartLifecycle {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String NODE_SEPARATOR = "|";
+    private static final String TYPE_SEPARATOR = ",";
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<EntityChangeSubscriber> subscribers;
+    private final EntityChangeBusConfig entityChangeBusConfig;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Map<String, Class<?>> entityTypes = Map.of();
+    private Thread listenerThread;
+
+    public PostgresEntityChangeBus(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                                   ObjectProvider<EntityChangeSubscriber> subscribers, EntityChangeBusConfig entityChangeBusConfig) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.subscribers = subscribers;
+        this.entityChangeBusConfig = entityChangeBusConfig;
+    }
+
+    /**
+     * Notifies the other nodes that entities of the given types were committed
+     */
+    public void publish(Collection<Class<?>> changedTypes) {
+        String types = changedTypes.stream()
+                .filter(this::isObserved)
+                .map(Class::getName)
+                .distinct()
+                .collect(Collectors.joining(TYPE_SEPARATOR));
+
+        if (types.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+            statement.setString(1, channel());
+            statement.setString(2, nodeId + NODE_SEPARATOR + types);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            // Other nodes keep serving their previous values until the next change or resync
+            log.warn("Entity change notification for {} could not be sent: {}", types, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        entityTypes = entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .collect(Collectors.toUnmodifiableMap(Class::getName, type -> type, (first, second) -> first));
+
+        running = true;
+        listenerThread = new Thread(this::listen, "entity-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread == null) {
+            return;
+        }
+        // The listener leaves within one poll and returns its connection to the pool itself
+        listenerThread.interrupt();
+        try {
+            listenerThread.join(entityChangeBusConfig.getPollTimeout().multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long delay = entityChangeBusConfig.getReconnectDelay().toMillis();
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                execute(connection, "LISTEN " + channel());
+                try {
+                    if (reconnecting) {
+                        log.info("Entity change listener reconnected, resyncing subscribers");
+                        subscribers.orderedStream().forEach(EntityChangeSubscriber::resync);
+                    }
+                    reconnecting = true;
+                    delay = entityChangeBusConfig.getReconnectDelay().toMillis();
+
+                    poll(connection.unwrap(PGConnection.class));
+                } finally {
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Entity change listener disconnected, retrying in {} ms: {}", delay, e.getMessage());
+                sleep(delay);
+                delay = Math.min(delay * 2, entityChangeBusConfig.getMaxReconnectDelay().toMillis());
+            }
+        }
+    }
+
+    private void poll(PGConnection pgConnection) throws SQLException {
+        int pollTimeout = (int) entityChangeBusConfig.getPollTimeout().toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+            if (notifications != null) {
+                Arrays.stream(notifications).map(PGNotification::getParameter).forEach(this::dispatch);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        // Own notifications were already applied locally after commit
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        for (String typeName : payload.substring(separator + 1).split(TYPE_SEPARATOR)) {
+            Class<?> entityType = entityTypes.get(typeName);
+            if (entityType == null) {
+                continue;
+            }
+            subscribers.orderedStream()
+                    .filter(subscriber -> subscriber.supports(entityType))
+                    .forEach(subscriber -> notify(subscriber, entityType));
+        }
+    }
+
+    private static void notify(EntityChangeSubscriber subscriber, Class<?> entityType) {
+        try {
+            subscriber.onChange(entityType);
+        } catch (RuntimeException e) {
+            log.error("Entity change subscriber {} failed for {}", subscriber.getClass().getSimpleName(), entityType.getSimpleName(), e);
+        }
+    }
+
+    private boolean isObserved(Class<?> entityType) {
+        return subscribers.orderedStream().anyMatch(subscriber -> subscriber.supports(entityType));
+    }
+
+    /**
+     * Taken from the application pool, so it gets the same URL, credentials and driver properties as every other
+     * connection; it stays checked out while the node runs, which takes one slot of the pool
+     */
+    private Connection openListenConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    /**
+     * The connection goes back to the pool, so it must not stay subscribed to the channel
+     */
+    private static void unlisten(Connection connection) {
+        try {
+            execute(connection, "UNLISTEN *");
+        } catch (SQLException e) {
+            log.debug("Error unsubscribing the entity change listen connection", e);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private String channel() {
+        String channel = entityChangeBusConfig.getChannel();
+        if (channel == null || !CHANNEL.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid entity change channel: " + channel);
+        }
+        return channel;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Duration.ofMillis(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
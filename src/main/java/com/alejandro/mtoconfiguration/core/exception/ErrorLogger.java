@@ -0,0 +1,122 @@
+package com.alejandro.mtoconfiguration.core.exception;
+
+import com.alejandro.mtoconfiguration.validator.commons.Severity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Severity-aware, rate-limited logging of the errors handled by {@link RestExceptionHandler}.
+ * <p>
+ * Every error is counted in "mto.errors" (tags code, severity and exception). Logging is limited per code to
+ * maxPerSecond lines, then sampled; the number of errors skipped is added to the next line of the code.
+ * CRITICAL errors are always logged with their stack trace, ERROR ones with it when enabled and the exception
+ * captured it, WARNING ones with the message only and INFO ones at debug level.
+ */
+@Slf4j
+@Component
+public class ErrorLogger {
+
+    private static final String UNKNOWN_CODE = "unknown";
+
+    private final ErrorLoggingConfig errorLoggingConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RateWindow> windows = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ErrorLogger(ErrorLoggingConfig errorLoggingConfig, MeterRegistry meterRegistry) {
+        this.errorLoggingConfig = errorLoggingConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Severity declared as text by the domain exceptions, or the default one when blank or unknown
+     */
+    public static Severity parseSeverity(String severity, Severity defaultSeverity) {
+        if (StringUtils.isBlank(severity)) {
+            return defaultSeverity;
+        }
+        for (Severity value : Severity.values()) {
+            if (value.name().equalsIgnoreCase(severity.trim())) {
+                return value;
+            }
+        }
+        return defaultSeverity;
+    }
+
+    public void log(String code, Severity severity, Throwable e) {
+        String errorCode = StringUtils.defaultIfBlank(code, UNKNOWN_CODE);
+        count(errorCode, severity, e);
+
+        long skipped = 0;
+        if (severity != Severity.CRITICAL) {
+            skipped = windows.computeIfAbsent(errorCode, key -> new RateWindow()).acquire(
+                    errorLoggingConfig.getMaxPerSecond(), errorLoggingConfig.getSampleRate());
+            if (skipped < 0) {
+                return;
+            }
+        }
+
+        String message = skipped > 0
+                ? "[%s] %s (%d similar errors skipped)".formatted(errorCode, e.getMessage(), skipped)
+                : "[%s] %s".formatted(errorCode, e.getMessage());
+
+        switch (severity) {
+            case CRITICAL -> log.error(message, e);
+            case ERROR -> {
+                if (errorLoggingConfig.isStackTraces() && e.getStackTrace().length > 0) {
+                    log.error(message, e);
+                } else {
+                    log.error(message);
+                }
+            }
+            case WARNING -> log.warn(message);
+            case INFO -> log.debug(message);
+        }
+    }
+
+    private void count(String code, Severity severity, Throwable e) {
+        String exception = e.getClass().getSimpleName();
+        counters.computeIfAbsent(code + '|' + severity + '|' + exception, key -> Counter.builder("mto.errors")
+                .tag("code", code)
+                .tag("severity", severity.name())
+                .tag("exception", exception)
+                .register(meterRegistry)).increment();
+    }
+
+    /**
+     * Fixed one-second window of a code
+     */
+    private static final class RateWindow {
+
+        private long windowStart = System.nanoTime();
+        private int logged;
+        private long skipped;
+
+        /**
+         * Returns the errors skipped since the last line when this one may be logged, or -1 when it is skipped
+         */
+        synchronized long acquire(int maxPerSecond, int sampleRate) {
+            long now = System.nanoTime();
+            if (now - windowStart >= 1_000_000_000L) {
+                windowStart = now;
+                logged = 0;
+            }
+
+            if (logged < maxPerSecond || sampleRate > 0 && (skipped + 1) % sampleRate == 0) {
+                logged++;
+                long result = skipped;
+                skipped = 0;
+                return result;
+            }
+
+            skipped++;
+            return -1;
+        }
+    }
+}
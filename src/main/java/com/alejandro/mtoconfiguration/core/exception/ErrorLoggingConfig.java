@@ -0,0 +1,23 @@
+package com.alejandro.mtoconfiguration.core.exception;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the error logging of the REST exception handler, mapped from
+ * "configuration.modules.rest.exception-handler.logging".
+ *
+ * Fields include:
+ * - maxPerSecond: errors logged per code and second before sampling starts.
+ * - sampleRate: once over the limit, one error out of sampleRate is still logged.
+ * - stackTraces: whether ERROR errors are logged with their stack trace (CRITICAL ones always are).
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.modules.rest.exception-handler.logging")
+public class ErrorLoggingConfig {
+    private int maxPerSecond = 10;
+    private int sampleRate = 100;
+    private boolean stackTraces = true;
+}
@@ -1,12 +1,14 @@
 package com.alejandro.mtoconfiguration.core.exception;
 
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
 import com.alejandro.mtoconfiguration.core.model.exception.DefaultErrorResponse;
+import com.alejandro.mtoconfiguration.validator.commons.Severity;
+import com.alejandro.mtoconfiguration.validator.commons.StandardErrorCodes;
 import feign.FeignException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
-import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
@@ -31,13 +33,20 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Stream;
 
-@Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice
 //ToDo: write in the configuration
 @ConditionalOnProperty(value = "configuration.modules.rest.exception-handler.enabled", havingValue = "true", matchIfMissing = true)
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss");
+
+    private final ErrorLogger errorLogger;
+
+    public RestExceptionHandler(ErrorLogger errorLogger) {
+        this.errorLogger = errorLogger;
+    }
+
     /**
      * Handles exceptions of type {@link FeignException.Unauthorized} triggered by Feign client calls.
      * Logs the exception's error message and returns a ResponseEntity with an HTTP 401 Unauthorized status.
@@ -48,7 +57,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(FeignException.Unauthorized.class)
     public ResponseEntity<Object> handleFeignStatusException(FeignException.Unauthorized e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNAUTHORIZED.code(), Severity.WARNING, e);
         return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
     }
 
@@ -63,7 +72,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(InvalidBearerTokenException.class)
     public ResponseEntity<Object> handleTokenNotActiveException(InvalidBearerTokenException e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNAUTHORIZED.code(), Severity.WARNING, e);
         return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
     }
 
@@ -78,7 +87,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(HttpClientErrorException.Unauthorized.class)
     public ResponseEntity<DefaultErrorResponse> handleUnauthorizedException(HttpClientErrorException.Unauthorized e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNAUTHORIZED.code(), Severity.WARNING, e);
         return new ResponseEntity<>(getErrorResponse("unauthorized", HttpStatus.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
     }
 
@@ -93,7 +102,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<DefaultErrorResponse> handleAccessDeniedException(AccessDeniedException e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNAUTHORIZED.code(), Severity.WARNING, e);
         return new ResponseEntity<>(getErrorResponse("unauthorized", HttpStatus.UNAUTHORIZED), HttpStatus.UNAUTHORIZED);
     }
 
@@ -109,7 +118,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(GenericException.class)
     public ResponseEntity<Notification> handleGenericException(GenericException e, HttpServletRequest request) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(e.getCode(), severityOf(e, e.getSeverity(), e.getCode()), e);
 
         Notification notification = getNotification(
                 e.getAction(),
@@ -139,6 +148,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler({RailwayInfrastructureException.class})
     public ResponseEntity<Notification> handleRailwayInfrastructureException(RailwayInfrastructureException e, HttpServletRequest request) {
+        errorLogger.log(e.getCode(), severityOf(e, e.getSeverity(), e.getCode()), e);
 
         Notification notification = getNotification(
                 e.getAction(),
@@ -168,7 +178,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(TransactionSystemException.class)
     public ResponseEntity<Object> handleJPAViolations(TransactionSystemException e) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.VALIDATION_INVALID_FORMAT.code(), Severity.WARNING, e);
 
         var maybeConstraintViolation = Stream
                 .iterate(e.getCause(), Objects::nonNull, Throwable::getCause)
@@ -212,7 +222,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @Override
     protected @Nullable ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.VALIDATION_INVALID_FORMAT.code(), Severity.WARNING, e);
         var errors = e.getBindingResult().getAllErrors().stream()
                 .map(ObjectError::getDefaultMessage)
                 .distinct()
@@ -232,7 +242,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(ServletException.class)
     public ResponseEntity<DefaultErrorResponse> handleServletException(ServletException e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNEXPECTED_ERROR.code(), Severity.ERROR, e);
         return new ResponseEntity<>(getErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST), HttpStatus.BAD_REQUEST);
     }
 
@@ -248,10 +258,21 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<DefaultErrorResponse> handleRuntimeException(Exception e, HttpServletResponse response) {
-        log.error(e.getMessage(), e);
+        errorLogger.log(StandardErrorCodes.UNEXPECTED_ERROR.code(), Severity.ERROR, e);
         return new ResponseEntity<>(getErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Severity declared by a domain exception; when it declares none, unhandled (RIE000) and wrapped errors are
+     * ERROR and expected outcomes WARNING.
+     */
+    private static Severity severityOf(Exception e, String severity, String code) {
+        Severity fallback = e.getCause() != null || RailwayInfrastructureExceptions.RIE000.getCode().equals(code)
+                ? Severity.ERROR
+                : Severity.WARNING;
+        return ErrorLogger.parseSeverity(severity, fallback);
+    }
+
     /**
      * Constructs a {@link DefaultErrorResponse} instance with an error message and HTTP status.
      *
@@ -289,9 +310,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
                                          String category, HttpServletRequest s) {
         return Optional.of(new Notification())
                 .map(notification -> {
-                    notification.setTimestamp(DateTimeFormatter
-                            .ofPattern("yyyy-MM-dd hh:mm:ss")
-                            .format(java.time.LocalDateTime.now()));
+                    notification.setTimestamp(TIMESTAMP_FORMATTER.format(LocalDateTime.now()));
                     notification.setAction(action);
                     notification.setCode(code);
                     notification.setDescription(description);
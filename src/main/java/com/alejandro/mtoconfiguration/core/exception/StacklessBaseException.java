@@ -0,0 +1,33 @@
+package com.alejandro.mtoconfiguration.core.exception;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * {@link BaseException} for expected outcomes (validations, business rules) that does not capture the stack
+ * trace, which is the most expensive part of creating an exception.
+ */
+public class StacklessBaseException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessBaseException(String message) {
+        super(message);
+    }
+
+    public StacklessBaseException(Alert error) {
+        super(error);
+    }
+
+    public StacklessBaseException(List<Alert> errors) {
+        super(errors);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
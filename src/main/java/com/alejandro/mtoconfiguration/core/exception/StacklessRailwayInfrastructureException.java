@@ -0,0 +1,32 @@
+package com.alejandro.mtoconfiguration.core.exception;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+
+import java.io.Serial;
+
+/**
+ * {@link RailwayInfrastructureException} for expected outcomes that does not capture the stack trace; use the
+ * regular exception when the error wraps a cause or needs to be diagnosed.
+ */
+public class StacklessRailwayInfrastructureException extends RailwayInfrastructureException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions ex) {
+        super(ex);
+    }
+
+    public StacklessRailwayInfrastructureException(String code, String message) {
+        super(code, message);
+    }
+
+    public StacklessRailwayInfrastructureException(String action, String message, String code, String category, String severity) {
+        super(action, message, code, category, severity);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,113 @@
+package com.alejandro.mtoconfiguration.core.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes search streams (see {@code CriteriaSearchRepository#criteriaStream}) as chunked HTTP bodies.
+ * <p>
+ * The returned {@link StreamingResponseBody} opens its own read-only transaction, because it is executed
+ * asynchronously once the controller method has returned. The source supplier is invoked inside that
+ * transaction, and the output is flushed every {@link #FLUSH_INTERVAL} rows so memory use stays constant.
+ * <p>
+ * Typical usage from a controller:
+ * <pre>
+ * return ResponseEntity.ok()
+ *         .contentType(MediaType.APPLICATION_NDJSON)
+ *         .body(searchExportWriter.ndjson(() -> service.streamSearch(searchRequestDTO)));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SearchExportWriter {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final String CSV_SEPARATOR = ",";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchExportWriter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes one JSON document per line (application/x-ndjson)
+     */
+    public <T> StreamingResponseBody ndjson(Supplier<Stream<T>> source) {
+        return outputStream -> write(outputStream, source, null, objectMapper::writeValueAsBytes);
+    }
+
+    /**
+     * Writes a CSV document with the given header and one line per element
+     */
+    public <T> StreamingResponseBody csv(Supplier<Stream<T>> source, List<String> headers, Function<T, List<?>> rowMapper) {
+        return outputStream -> write(outputStream, source, toCsvLine(headers),
+                element -> toCsvLine(rowMapper.apply(element)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> void write(OutputStream outputStream, Supplier<Stream<T>> source, String header,
+                           Function<T, byte[]> serializer) {
+        BufferedOutputStream output = new BufferedOutputStream(outputStream);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> stream = source.get()) {
+                if (header != null) {
+                    output.write(header.getBytes(StandardCharsets.UTF_8));
+                    output.write(NEW_LINE);
+                }
+
+                long rows = 0;
+                for (T element : (Iterable<T>) stream::iterator) {
+                    output.write(serializer.apply(element));
+                    output.write(NEW_LINE);
+
+                    if (++rows % FLUSH_INTERVAL == 0) {
+                        output.flush();
+                    }
+                }
+
+                output.flush();
+                log.debug("Search export finished: {} rows", rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String toCsvLine(Collection<?> values) {
+        return values.stream()
+                .map(SearchExportWriter::toCsvValue)
+                .collect(Collectors.joining(CSV_SEPARATOR));
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        boolean quote = text.contains(CSV_SEPARATOR) || text.contains("\"") || text.contains("\n") || text.contains("\r");
+
+        return quote ? "\"" + text.replace("\"", "\"\"") + "\"" : text;
+    }
+}
@@ -0,0 +1,164 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Incremental CSV reader: records are parsed one at a time from the underlying {@link Reader}, so files of any size
+ * are imported with constant memory. Supports quoted fields with escaped quotes ({@code ""}) and line breaks, and
+ * takes the column names from the first record, skipping a leading UTF-8 byte order mark.
+ */
+public class CsvRowReader implements Iterator<ImportRow>, AutoCloseable {
+
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+    private final Map<String, Integer> columns;
+
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private ImportRow next;
+
+    public CsvRowReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+
+        // Excel exports start with a byte order mark, which would otherwise be part of the first header
+        if (peek() == BOM) {
+            read();
+        }
+
+        String[] headers = readRecord();
+        Map<String, Integer> headerIndex = new LinkedHashMap<>();
+        for (int i = 0; headers != null && i < headers.length; i++) {
+            headerIndex.putIfAbsent(headers[i].strip(), i);
+        }
+        this.columns = Collections.unmodifiableMap(headerIndex);
+    }
+
+    public Set<String> getColumns() {
+        return columns.keySet();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            String[] values = readRecord();
+            next = values != null ? new ImportRow(recordLineNumber, columns, values) : null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next non-empty record, or null at the end of the input; {@code recordLineNumber} is set to the line
+     * of its first character
+     */
+    private String[] readRecord() {
+        List<String> values = new ArrayList<>();
+        boolean quoted = false;
+        boolean any = false;
+        boolean blank = true;
+        field.setLength(0);
+
+        int c;
+        while ((c = read()) != -1) {
+            char ch = (char) c;
+            if (!any) {
+                any = true;
+                recordLineNumber = lineNumber;
+            }
+            if (ch != '\r' && ch != '\n') {
+                blank = false;
+            }
+
+            if (quoted) {
+                if (ch == QUOTE) {
+                    if (peek() == QUOTE) {
+                        read();
+                        field.append(QUOTE);
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == delimiter) {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r') {
+                // Dropped; the record ends at the following \n
+            } else if (ch == '\n') {
+                lineNumber++;
+                if (blank) {
+                    // Blank line; a quoted empty value ("") is still a record
+                    any = false;
+                    continue;
+                }
+                values.add(field.toString());
+                return values.toArray(String[]::new);
+            } else {
+                field.append(ch);
+            }
+        }
+
+        if (!any || blank) {
+            return null;
+        }
+        values.add(field.toString());
+        return values.toArray(String[]::new);
+    }
+
+    private int read() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() {
+        try {
+            // Kept at zero at the end of the input, so later reads keep returning -1
+            limit = Math.max(0, reader.read(buffer, 0, buffer.length));
+            position = 0;
+            return limit > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
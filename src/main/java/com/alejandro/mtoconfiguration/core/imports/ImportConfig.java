@@ -0,0 +1,21 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the bulk imports, mapped from "configuration.modules.imports".
+ *
+ * Fields include:
+ * - batchSize: rows validated and written together; should match hibernate.jdbc.batch_size and the allocation
+ *   size of the entity sequences.
+ * - validationParallelism: threads validating the rows of a batch.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.modules.imports")
+public class ImportConfig {
+    private int batchSize = 500;
+    private int validationParallelism = Runtime.getRuntime().availableProcessors();
+}
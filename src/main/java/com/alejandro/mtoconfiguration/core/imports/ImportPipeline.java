@@ -0,0 +1,149 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import com.alejandro.mtoconfiguration.model.commons.AlertLevel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Streaming import: rows are read incrementally, mapped and validated in parallel batch by batch, and the valid
+ * items of each batch are handed to an {@link ImportWriter} ({@link JpaBatchImportWriter} or
+ * {@link CopyImportWriter}). Only one batch is held in memory; alerts are kept per row for the final report.
+ */
+@Slf4j
+@Component
+public class ImportPipeline {
+
+    private final ImportConfig importConfig;
+    private final ExecutorService validationExecutor;
+
+    public ImportPipeline(ImportConfig importConfig) {
+        this.importConfig = importConfig;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.validationExecutor = Executors.newFixedThreadPool(Math.max(1, importConfig.getValidationParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "import-validation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> ImportReport run(Iterator<ImportRow> rows, ImportRowMapper<T> mapper, ImportValidator<T> validator,
+                                ImportWriter<T> writer) {
+        return run(rows, mapper, validator, writer, progress -> {
+        });
+    }
+
+    /**
+     * Imports every row, reporting the progress after each batch
+     */
+    public <T> ImportReport run(Iterator<ImportRow> rows, ImportRowMapper<T> mapper, ImportValidator<T> validator,
+                                ImportWriter<T> writer, Consumer<ImportProgress> progressListener) {
+        long start = System.nanoTime();
+        int batchSize = Math.max(1, importConfig.getBatchSize());
+        Map<Long, List<Alert>> rowAlerts = new TreeMap<>();
+        long read = 0;
+        long written = 0;
+        long rejected = 0;
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            batch.clear();
+            while (batch.size() < batchSize && rows.hasNext()) {
+                batch.add(rows.next());
+            }
+            read += batch.size();
+
+            List<RowOutcome<T>> outcomes = validate(batch, mapper, validator);
+            List<T> items = new ArrayList<>(outcomes.size());
+            for (RowOutcome<T> outcome : outcomes) {
+                if (!outcome.alerts().isEmpty()) {
+                    rowAlerts.put(outcome.lineNumber(), outcome.alerts());
+                }
+                if (outcome.rejected()) {
+                    rejected++;
+                } else {
+                    items.add(outcome.item());
+                }
+            }
+
+            if (!items.isEmpty()) {
+                try {
+                    writer.write(items);
+                    written += items.size();
+                } catch (RuntimeException e) {
+                    log.warn("Import batch ending at line {} could not be written: {}", batch.getLast().lineNumber(), e.getMessage());
+                    Alert alert = Alert.ofDanger("No se ha podido guardar el lote de la fila", e);
+                    for (RowOutcome<T> outcome : outcomes) {
+                        if (!outcome.rejected()) {
+                            rowAlerts.computeIfAbsent(outcome.lineNumber(), line -> new ArrayList<>()).add(alert);
+                            rejected++;
+                        }
+                    }
+                }
+            }
+
+            ImportProgress progress = new ImportProgress(read, written, rejected, Duration.ofNanos(System.nanoTime() - start));
+            progressListener.accept(progress);
+            log.debug("Import progress: {} rows read, {} written, {} rejected ({} rows/s)",
+                    read, written, rejected, Math.round(progress.rowsPerSecond()));
+        }
+
+        ImportProgress progress = new ImportProgress(read, written, rejected, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Import finished: {} rows read, {} written, {} rejected in {} ms ({} rows/s)",
+                read, written, rejected, progress.elapsed().toMillis(), Math.round(progress.rowsPerSecond()));
+
+        return new ImportReport(progress, Collections.unmodifiableMap(rowAlerts));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    /**
+     * Maps and validates the rows of the batch, split in one chunk per validation thread; outcomes keep row order
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<RowOutcome<T>> validate(List<ImportRow> batch, ImportRowMapper<T> mapper, ImportValidator<T> validator) {
+        RowOutcome<T>[] outcomes = new RowOutcome[batch.size()];
+        int parallelism = Math.max(1, importConfig.getValidationParallelism());
+        int chunkSize = Math.max(1, (batch.size() + parallelism - 1) / parallelism);
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>(parallelism);
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(from + chunkSize, batch.size());
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    outcomes[i] = validate(batch.get(i), mapper, validator);
+                }
+            }, validationExecutor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        return Arrays.asList(outcomes);
+    }
+
+    private static <T> RowOutcome<T> validate(ImportRow row, ImportRowMapper<T> mapper, ImportValidator<T> validator) {
+        try {
+            T item = mapper.map(row);
+            List<Alert> alerts = Objects.requireNonNullElse(validator.validate(item), List.of());
+            boolean rejected = alerts.stream().anyMatch(alert -> alert.getLevel() == AlertLevel.DANGER);
+            return new RowOutcome<>(row.lineNumber(), item, alerts, rejected);
+        } catch (RuntimeException e) {
+            return new RowOutcome<>(row.lineNumber(), null, List.of(Alert.ofDanger("La fila no es válida", e)), true);
+        }
+    }
+
+    private record RowOutcome<T>(long lineNumber, T item, List<Alert> alerts, boolean rejected) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of an import in progress, reported after every batch
+ */
+public record ImportProgress(long rowsRead, long rowsWritten, long rowsRejected, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rowsRead : rowsRead * 1000d / millis;
+    }
+}
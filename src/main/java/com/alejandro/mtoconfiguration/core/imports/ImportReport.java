@@ -0,0 +1,25 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an import: final progress and the alerts of every rejected or warned row, by line number
+ */
+public record ImportReport(ImportProgress progress, Map<Long, List<Alert>> rowAlerts) {
+
+    public boolean hasErrors() {
+        return progress.rowsRejected() > 0;
+    }
+
+    /**
+     * Single alert carrying the row alerts as {@code excelErrors}, for the response of the import
+     */
+    public Alert toAlert() {
+        return hasErrors()
+                ? Alert.ofDanger(rowAlerts)
+                : Alert.ofSuccess("Importación completada", "%d filas importadas".formatted(progress.rowsWritten()), List.of());
+    }
+}
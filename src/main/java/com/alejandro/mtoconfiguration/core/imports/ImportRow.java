@@ -0,0 +1,25 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import java.util.Map;
+
+/**
+ * One parsed row of an import file; {@code lineNumber} is the 1-based line where the record starts
+ */
+public record ImportRow(long lineNumber, Map<String, Integer> columns, String[] values) {
+
+    /**
+     * Value of the column with the given header, or null when the column or the value is missing
+     */
+    public String get(String column) {
+        Integer index = columns.get(column);
+        return index != null && index < values.length ? values[index] : null;
+    }
+
+    public String get(int index) {
+        return index < values.length ? values[index] : null;
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
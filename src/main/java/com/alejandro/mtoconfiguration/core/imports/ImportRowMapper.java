@@ -0,0 +1,10 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+/**
+ * Converts a parsed row to the item to import; a failure rejects the row with a DANGER alert
+ */
+@FunctionalInterface
+public interface ImportRowMapper<T> {
+
+    T map(ImportRow row);
+}
@@ -0,0 +1,18 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+
+import java.util.List;
+
+/**
+ * Validates a mapped item; rows with a DANGER alert are not written. Called concurrently from several threads.
+ */
+@FunctionalInterface
+public interface ImportValidator<T> {
+
+    List<Alert> validate(T item);
+
+    static <T> ImportValidator<T> none() {
+        return item -> List.of();
+    }
+}
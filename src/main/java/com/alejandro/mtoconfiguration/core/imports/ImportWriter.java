@@ -0,0 +1,12 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import java.util.List;
+
+/**
+ * Writes a batch of valid items; each batch is written atomically
+ */
+@FunctionalInterface
+public interface ImportWriter<T> {
+
+    void write(List<T> batch);
+}
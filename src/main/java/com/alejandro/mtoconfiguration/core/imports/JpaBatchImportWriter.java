@@ -0,0 +1,55 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Writes each batch in its own Spring-managed transaction ({@code REQUIRES_NEW}) with a fresh persistence context:
+ * the entities are persisted, flushed as JDBC batches ({@code hibernate.jdbc.batch_size}, inserts ordered by entity)
+ * and cleared, so memory stays constant. Auditing, Envers, {@code @Version} and the after-commit listeners (entity
+ * change bus, LOV cache) apply as in any other write. Ids should come from a sequence whose allocation size covers
+ * the batch, so Hibernate does not call the sequence per row.
+ */
+public class JpaBatchImportWriter<T> implements ImportWriter<T> {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaBatchImportWriter(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, new JpaTransactionManager(entityManagerFactory));
+    }
+
+    public JpaBatchImportWriter(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void write(List<T> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            Session session = entityManager.unwrap(Session.class);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            session.setCacheMode(CacheMode.IGNORE);
+            session.setJdbcBatchSize(batch.size());
+
+            try {
+                batch.forEach(entityManager::persist);
+                entityManager.flush();
+            } finally {
+                entityManager.clear();
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.alejandro.mtoconfiguration.core.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JwtDecoder} that remembers the tokens already verified by the delegate.
+ * <p>
+ * Entries are keyed by the SHA-256 of the raw token (the token itself is not kept as key), bounded by an LRU and
+ * dropped at the token {@code exp}, so a burst of calls with the same bearer token pays for one signature
+ * verification. Concurrent first calls with the same token share a single verification; failures are not cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Map<String, Jwt> verified;
+    private final Map<String, CompletableFuture<Jwt>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verified = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hits = Counter.builder("mto.security.jwt.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("mto.security.jwt.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = verified.get(key);
+
+        if (cached != null) {
+            if (isLive(cached)) {
+                hits.increment();
+                return cached;
+            }
+            verified.remove(key, cached);
+        }
+
+        misses.increment();
+        return verify(key, token);
+    }
+
+    private Jwt verify(String key, String token) {
+        CompletableFuture<Jwt> future = new CompletableFuture<>();
+        CompletableFuture<Jwt> running = inFlight.putIfAbsent(key, future);
+
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof JwtException jwtException ? jwtException : e;
+            }
+        }
+
+        try {
+            Jwt jwt = delegate.decode(token);
+            if (jwt.getExpiresAt() != null && isLive(jwt)) {
+                verified.put(key, jwt);
+            }
+            future.complete(jwt);
+            return jwt;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static boolean isLive(Jwt jwt) {
+        return jwt.getExpiresAt() == null || Instant.now().isBefore(jwt.getExpiresAt());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
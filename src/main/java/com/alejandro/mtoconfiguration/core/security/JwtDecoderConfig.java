@@ -0,0 +1,29 @@
+package com.alejandro.mtoconfiguration.core.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the resource server JWT validation, mapped from "configuration.security.jwt".
+ *
+ * Fields include:
+ * - jwkSetUri: JWKS endpoint of the Keycloak realm (…/protocol/openid-connect/certs).
+ * - issuerUri: expected "iss" claim; when blank only the timestamps are validated.
+ * - jwksCacheTtl / jwksRefreshTimeout: lifetime of the cached key set and max wait for a JWKS download.
+ * - jwksRefreshAheadTime: the key set is refreshed in the background this long before it expires.
+ * - tokenCacheSize: max number of verified tokens kept in memory.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.security.jwt")
+public class JwtDecoderConfig {
+    private String jwkSetUri;
+    private String issuerUri;
+    private Duration jwksCacheTtl = Duration.ofMinutes(10);
+    private Duration jwksRefreshTimeout = Duration.ofSeconds(15);
+    private Duration jwksRefreshAheadTime = Duration.ofMinutes(1);
+    private int tokenCacheSize = 10_000;
+}
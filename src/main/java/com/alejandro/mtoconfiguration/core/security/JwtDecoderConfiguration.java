@@ -0,0 +1,65 @@
+package com.alejandro.mtoconfiguration.core.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+
+/**
+ * Local JWT validation for the resource server. The Keycloak JWKS is cached and refreshed ahead of expiry by a
+ * background task (unknown key ids trigger a rate limited reload, so key rotation is picked up), and verified tokens
+ * are reused through {@link CachingJwtDecoder}. Replaces the JwtDecoder auto-configured by Spring Boot.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "configuration.security.jwt", name = "jwk-set-uri")
+public class JwtDecoderConfiguration {
+
+    private final JwtDecoderConfig jwtDecoderConfig;
+
+    @Bean
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.Family.RSA, jwkSource()));
+        // Claims are validated by the Spring validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        nimbusJwtDecoder.setJwtValidator(StringUtils.isNotBlank(jwtDecoderConfig.getIssuerUri())
+                ? JwtValidators.createDefaultWithIssuer(jwtDecoderConfig.getIssuerUri())
+                : JwtValidators.createDefault());
+
+        return new CachingJwtDecoder(nimbusJwtDecoder, jwtDecoderConfig.getTokenCacheSize(), meterRegistry);
+    }
+
+    private JWKSource<SecurityContext> jwkSource() {
+        return JWKSourceBuilder.<SecurityContext>create(jwkSetUrl())
+                .cache(jwtDecoderConfig.getJwksCacheTtl().toMillis(), jwtDecoderConfig.getJwksRefreshTimeout().toMillis())
+                .refreshAheadCache(jwtDecoderConfig.getJwksRefreshAheadTime().toMillis(), true)
+                .build();
+    }
+
+    private URL jwkSetUrl() {
+        try {
+            return URI.create(jwtDecoderConfig.getJwkSetUri()).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid JWK set uri: " + jwtDecoderConfig.getJwkSetUri(), e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.alejandro.mtoconfiguration.core.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+
+/**
+ * Immutable view of the authenticated principal, parsed once per request from the {@link Jwt} claims.
+ * <p>
+ * The snapshot is stored as a request attribute and reused while the request keeps the same {@link Authentication};
+ * outside a web request it is built on every call. Keycloak authorization permissions
+ * ({@code authorization.permissions[].rsname/scopes}) are indexed as {@code "resource#scope"} and {@code "resource"}
+ * keys, so permission checks are a hash lookup.
+ */
+public final class PrincipalSnapshot {
+
+    private static final String REQUEST_ATTRIBUTE = PrincipalSnapshot.class.getName();
+    private static final PrincipalSnapshot ANONYMOUS = new PrincipalSnapshot(null, null, null, List.of(), Set.of());
+
+    private final Authentication authentication;
+    private final Jwt jwt;
+    private final String auditor;
+    private final List<Map<String, Object>> permissions;
+    private final Set<String> permissionIndex;
+
+    private PrincipalSnapshot(Authentication authentication, Jwt jwt, String auditor,
+                              List<Map<String, Object>> permissions, Set<String> permissionIndex) {
+        this.authentication = authentication;
+        this.jwt = jwt;
+        this.auditor = auditor;
+        this.permissions = permissions;
+        this.permissionIndex = permissionIndex;
+    }
+
+    /**
+     * Returns the snapshot of the current security context, cached in the current request
+     */
+    public static PrincipalSnapshot current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return of(authentication);
+        }
+
+        if (requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof PrincipalSnapshot cached
+                && cached.authentication == authentication) {
+            return cached;
+        }
+
+        PrincipalSnapshot snapshot = of(authentication);
+        requestAttributes.setAttribute(REQUEST_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        return snapshot;
+    }
+
+    static PrincipalSnapshot of(Authentication authentication) {
+        if (authentication == null) {
+            return ANONYMOUS;
+        }
+
+        Jwt jwt = authentication instanceof JwtAuthenticationToken jwtAuthenticationToken
+                ? jwtAuthenticationToken.getToken()
+                : null;
+
+        List<Map<String, Object>> permissions = jwt != null ? readPermissions(jwt) : List.of();
+
+        return new PrincipalSnapshot(authentication, jwt, readAuditor(authentication),
+                permissions, indexPermissions(permissions));
+    }
+
+    public Jwt getJwt() {
+        return jwt;
+    }
+
+    public String getPreferredUsername() {
+        return getClaimAsString("preferred_username");
+    }
+
+    public String getName() {
+        return getClaimAsString("name");
+    }
+
+    public String getEmail() {
+        return getClaimAsString("email");
+    }
+
+    public Object getClaim(String claimName) {
+        return jwt != null ? jwt.getClaim(claimName) : null;
+    }
+
+    /**
+     * Auditor of the entities modified by the request: the preferred username for JWT principals
+     */
+    public Optional<String> getAuditor() {
+        return Optional.ofNullable(auditor);
+    }
+
+    public List<Map<String, Object>> getPermissions() {
+        return permissions;
+    }
+
+    public boolean hasPermission(String resource) {
+        return permissionIndex.contains(resource);
+    }
+
+    public boolean hasPermission(String resource, String scope) {
+        return permissionIndex.contains(resource + "#" + scope);
+    }
+
+    private String getClaimAsString(String claimName) {
+        return jwt != null ? jwt.getClaimAsString(claimName) : null;
+    }
+
+    private static String readAuditor(Authentication authentication) {
+        if (!authentication.isAuthenticated() || authentication.getPrincipal() == null) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof Jwt jwt
+                ? jwt.getClaimAsString("preferred_username")
+                : authentication.getPrincipal().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> readPermissions(Jwt jwt) {
+        if (!(jwt.getClaim("authorization") instanceof Map<?, ?> authorization)
+                || !(authorization.get("permissions") instanceof List<?> permissions)) {
+            return List.of();
+        }
+
+        return permissions.stream()
+                .filter(Map.class::isInstance)
+                .map(permission -> Collections.unmodifiableMap((Map<String, Object>) permission))
+                .toList();
+    }
+
+    private static Set<String> indexPermissions(List<Map<String, Object>> permissions) {
+        Set<String> index = new HashSet<>();
+
+        for (Map<String, Object> permission : permissions) {
+            if (!(permission.get("rsname") instanceof String resource)) {
+                continue;
+            }
+            index.add(resource);
+            if (permission.get("scopes") instanceof Collection<?> scopes) {
+                scopes.forEach(scope -> index.add(resource + "#" + scope));
+            }
+        }
+
+        return Set.copyOf(index);
+    }
+}
@@ -0,0 +1,28 @@
+package com.alejandro.mtoconfiguration.entity.commons;
+
+import com.alejandro.mtoconfiguration.enums.IStatusEnum;
+import com.alejandro.mtoconfiguration.enums.StatusEnumRegistry;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores an {@link IStatusEnum} by its code; reading goes through the {@link StatusEnumRegistry} index.
+ * An enum attribute gets its converter as a subclass that passes the enum class, applied with {@code @Convert}.
+ */
+public abstract class StatusEnumConverter<E extends Enum<E> & IStatusEnum> implements AttributeConverter<E, String> {
+
+    private final Class<E> enumType;
+
+    protected StatusEnumConverter(Class<E> enumType) {
+        this.enumType = enumType;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(String dbData) {
+        return StatusEnumRegistry.fromCode(enumType, dbData);
+    }
+}
@@ -0,0 +1,109 @@
+package com.alejandro.mtoconfiguration.entity.lov.cache;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import com.alejandro.mtoconfiguration.model.commons.BaseDTO;
+import com.alejandro.mtoconfiguration.model.commons.LovDTO;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only {@link LovDTO} handed out by the {@link LovCache}; the same instance is shared by every caller, so any
+ * setter call fails. Callers that need to modify it must copy it first.
+ */
+public final class ImmutableLovDTO extends LovDTO {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final boolean frozen;
+
+    ImmutableLovDTO(Long id, String code, String description, String type, boolean enabled) {
+        super(id, code, description);
+        super.setType(type);
+        super.setEnabled(enabled);
+        this.frozen = true;
+    }
+
+    @Override
+    public List<Alert> getAlerts() {
+        return List.of();
+    }
+
+    @Override
+    public BaseDTO setAlerts(List<Alert> alerts) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setId(Long id) {
+        checkWritable();
+        super.setId(id);
+    }
+
+    @Override
+    public void setCode(String code) {
+        checkWritable();
+        super.setCode(code);
+    }
+
+    @Override
+    public void setDescription(String description) {
+        checkWritable();
+        super.setDescription(description);
+    }
+
+    @Override
+    public void setType(String type) {
+        checkWritable();
+        super.setType(type);
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        checkWritable();
+        super.setEnabled(enabled);
+    }
+
+    @Override
+    public void setCreateUser(String createUser) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setVersionUser(String versionUser) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCreateDate(LocalDateTime createDate) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setVersionDate(LocalDateTime versionDate) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setVersionNumber(Integer versionNumber) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setServicePath(String servicePath) {
+        throw readOnly();
+    }
+
+    private void checkWritable() {
+        // The LovDTO constructor goes through the setters before the instance is frozen
+        if (frozen) {
+            throw readOnly();
+        }
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Cached LOV values are read-only");
+    }
+}
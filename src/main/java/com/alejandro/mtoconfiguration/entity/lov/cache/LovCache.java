@@ -0,0 +1,126 @@
+package com.alejandro.mtoconfiguration.entity.lov.cache;
+
+import com.alejandro.mtoconfiguration.core.events.EntityChangeSubscriber;
+import com.alejandro.mtoconfiguration.entity.lov.commons.Lov;
+import com.alejandro.mtoconfiguration.model.commons.LovDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of the lists of values, one immutable {@link LovRegion} per {@link Lov} entity type.
+ * <p>
+ * Every LOV type of the metamodel is loaded when the application is ready; afterwards reads are served from memory
+ * and never reach the database. When a transaction that wrote a LOV commits, {@link LovCacheListener} reloads the
+ * region of that type, which is swapped atomically, so readers always see a complete snapshot. Writes committed by
+ * other nodes arrive through the entity change bus.
+ * <p>
+ * Reloads of the same type may overlap (local commits, the bus listener, resyncs). Every load takes a version before
+ * reading, and a region is only installed over an older one, so a slow load never replaces a newer snapshot.
+ */
+@Slf4j
+@Component
+public class LovCache implements EntityChangeSubscriber {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<Class<?>, VersionedRegion> regions = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public LovCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Class<? extends Lov>> lovTypes = entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .filter(Lov.class::isAssignableFrom)
+                .<Class<? extends Lov>>map(type -> type.asSubclass(Lov.class))
+                .toList();
+
+        lovTypes.forEach(this::reload);
+        log.info("LOV cache initialized for {} types", lovTypes.size());
+    }
+
+    public Optional<LovDTO> findById(Class<? extends Lov> lovType, Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(region(lovType).byId().get(id));
+    }
+
+    public Optional<LovDTO> findByCode(Class<? extends Lov> lovType, String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(region(lovType).byCode().get(code));
+    }
+
+    public Optional<LovDTO> findEnabledByCode(Class<? extends Lov> lovType, String code) {
+        return findByCode(lovType, code).filter(LovDTO::isEnabled);
+    }
+
+    public List<LovDTO> findAll(Class<? extends Lov> lovType) {
+        return region(lovType).all();
+    }
+
+    public List<LovDTO> findAllEnabled(Class<? extends Lov> lovType) {
+        return region(lovType).enabled();
+    }
+
+    /**
+     * Reloads the values of the LOV type from the database and replaces its region
+     */
+    public void reload(Class<? extends Lov> lovType) {
+        VersionedRegion loaded = load(lovType);
+        regions.compute(lovType, (type, current) -> current == null || current.version() < loaded.version() ? loaded : current);
+    }
+
+    @Override
+    public boolean supports(Class<?> entityType) {
+        return Lov.class.isAssignableFrom(entityType);
+    }
+
+    @Override
+    public void onChange(Class<?> entityType) {
+        reload(entityType.asSubclass(Lov.class));
+    }
+
+    @Override
+    public void resync() {
+        regions.keySet().forEach(lovType -> reload(lovType.asSubclass(Lov.class)));
+    }
+
+    private LovRegion region(Class<? extends Lov> lovType) {
+        // Only types not known at warm-up are loaded on demand
+        return regions.computeIfAbsent(lovType, type -> load(lovType)).region();
+    }
+
+    private <L extends Lov> VersionedRegion load(Class<L> lovType) {
+        // Taken before reading: a load that starts later sees newer data and gets a higher version
+        long version = versions.incrementAndGet();
+
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            CriteriaQuery<L> query = entityManager.getCriteriaBuilder().createQuery(lovType);
+            query.select(query.from(lovType));
+
+            String type = lovType.getSimpleName();
+            List<ImmutableLovDTO> values = entityManager.createQuery(query)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    .map(lov -> new ImmutableLovDTO(lov.getId(), lov.getCode(), lov.getDescription(), type, lov.isEnabled()))
+                    .toList();
+
+            return new VersionedRegion(version, LovRegion.of(values));
+        }
+    }
+
+    private record VersionedRegion(long version, LovRegion region) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.alejandro.mtoconfiguration.entity.lov.cache;
+
+import com.alejandro.mtoconfiguration.core.events.AfterCommitCollector;
+import com.alejandro.mtoconfiguration.entity.lov.commons.Lov;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener of the {@link Lov} entities that reloads the {@link LovCache} region of every LOV type written by a
+ * transaction, once per type and after the transaction has committed (rolled back writes never reach the cache).
+ * Writes must run in a Spring-managed transaction (see {@link AfterCommitCollector}).
+ */
+@Component
+public class LovCacheListener {
+
+    private final AfterCommitCollector<Class<? extends Lov>> changedTypes;
+
+    public LovCacheListener(ObjectProvider<LovCache> lovCache) {
+        this.changedTypes = new AfterCommitCollector<>("LOV cache reload",
+                types -> lovCache.ifAvailable(cache -> types.forEach(cache::reload)));
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Lov lov) {
+        changedTypes.add(Hibernate.getClass(lov).asSubclass(Lov.class));
+    }
+}
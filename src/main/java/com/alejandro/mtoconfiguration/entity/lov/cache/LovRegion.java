@@ -0,0 +1,32 @@
+package com.alejandro.mtoconfiguration.entity.lov.cache;
+
+import com.alejandro.mtoconfiguration.model.commons.LovDTO;
+
+import java.util.*;
+
+/**
+ * Immutable content of one LOV type: every value in code order, the enabled ones, and the id and code indexes
+ */
+record LovRegion(List<LovDTO> all, List<LovDTO> enabled, Map<Long, LovDTO> byId, Map<String, LovDTO> byCode) {
+
+    static LovRegion of(List<? extends LovDTO> values) {
+        List<LovDTO> all = values.stream()
+                .map(LovDTO.class::cast)
+                .sorted(Comparator.comparing(LovDTO::getCode, Comparator.nullsLast(Comparator.<String>naturalOrder())))
+                .toList();
+
+        Map<Long, LovDTO> byId = new HashMap<>(all.size() * 2);
+        Map<String, LovDTO> byCode = new HashMap<>(all.size() * 2);
+        for (LovDTO value : all) {
+            byId.put(value.getId(), value);
+            if (value.getCode() != null) {
+                byCode.put(value.getCode(), value);
+            }
+        }
+
+        return new LovRegion(all,
+                all.stream().filter(LovDTO::isEnabled).toList(),
+                Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(byCode));
+    }
+}
@@ -2,6 +2,7 @@ package com.alejandro.mtoconfiguration.entity.lov.commons;
 
 import com.alejandro.mtoconfiguration.core.audit.EntityListener;
 import com.alejandro.mtoconfiguration.entity.commons.BaseEntity;
+import com.alejandro.mtoconfiguration.entity.lov.cache.LovCacheListener;
 import com.alejandro.mtoconfiguration.validator.commons.ErrorCodes;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
@@ -21,7 +22,7 @@ import java.io.Serial;
 @Audited
 @MappedSuperclass
 @Setter
-@EntityListeners(value = {AuditingEntityListener.class, EntityListener.class})
+@EntityListeners(value = {AuditingEntityListener.class, EntityListener.class, LovCacheListener.class})
 public abstract class Lov extends BaseEntity implements ILov {
 
     @Serial
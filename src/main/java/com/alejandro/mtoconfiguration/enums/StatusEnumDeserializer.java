@@ -0,0 +1,39 @@
+package com.alejandro.mtoconfiguration.enums;
+
+import org.apache.commons.lang3.StringUtils;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+/**
+ * Reads an {@link IStatusEnum} from its code, name or description (case-insensitive) through the
+ * {@link StatusEnumRegistry} index
+ */
+public class StatusEnumDeserializer<E extends Enum<E> & IStatusEnum> extends ValueDeserializer<E> {
+
+    private final Class<E> enumType;
+
+    public StatusEnumDeserializer(Class<E> enumType) {
+        this.enumType = enumType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E deserialize(JsonParser parser, DeserializationContext context) {
+        String value = parser.getValueAsString();
+
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+
+        E constant = StatusEnumRegistry.lookup(enumType, value.trim());
+        return constant != null
+                ? constant
+                : (E) context.handleWeirdStringValue(enumType, value, "not a code, name or description of %s", enumType.getSimpleName());
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return enumType;
+    }
+}
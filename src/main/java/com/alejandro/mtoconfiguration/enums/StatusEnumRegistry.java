@@ -0,0 +1,146 @@
+package com.alejandro.mtoconfiguration.enums;
+
+import java.util.*;
+
+/**
+ * Lookup of {@link IStatusEnum} constants by code, name or description, ignoring case.
+ * <p>
+ * The index of each enum class is built once (on first use) and is immutable; lookups hash the input case-folded
+ * char by char and compare with {@link String#equalsIgnoreCase}, so they do not clone {@code values()} nor allocate
+ * lower-cased copies of the input. Descriptions shared by several constants are not indexed.
+ */
+public final class StatusEnumRegistry {
+
+    private static final ClassValue<Index> INDEXES = new ClassValue<>() {
+        @Override
+        protected Index computeValue(Class<?> type) {
+            return Index.of(type.getEnumConstants());
+        }
+    };
+
+    private StatusEnumRegistry() {
+    }
+
+    /**
+     * Returns the constant with the given code, or null
+     */
+    public static <E extends Enum<E> & IStatusEnum> E fromCode(Class<E> enumType, String code) {
+        return enumType.cast(INDEXES.get(enumType).byCode.get(code));
+    }
+
+    /**
+     * Returns the constant with the given name, or null
+     */
+    public static <E extends Enum<E> & IStatusEnum> E fromName(Class<E> enumType, String name) {
+        return enumType.cast(INDEXES.get(enumType).byName.get(name));
+    }
+
+    /**
+     * Returns the only constant with the given description, or null
+     */
+    public static <E extends Enum<E> & IStatusEnum> E fromDescription(Class<E> enumType, String description) {
+        return enumType.cast(INDEXES.get(enumType).byDescription.get(description));
+    }
+
+    /**
+     * Resolves a value sent by a client: by code, then by name, then by description
+     */
+    public static <E extends Enum<E> & IStatusEnum> E lookup(Class<E> enumType, String value) {
+        Index index = INDEXES.get(enumType);
+        Object constant = index.byCode.get(value);
+        if (constant == null) {
+            constant = index.byName.get(value);
+        }
+        if (constant == null) {
+            constant = index.byDescription.get(value);
+        }
+        return enumType.cast(constant);
+    }
+
+    private record Index(CaseInsensitiveTable byCode, CaseInsensitiveTable byName, CaseInsensitiveTable byDescription) {
+
+        static Index of(Object[] constants) {
+            Map<String, Object> codes = new LinkedHashMap<>();
+            Map<String, Object> names = new LinkedHashMap<>();
+            Map<String, Object> descriptions = new LinkedHashMap<>();
+            Set<String> ambiguousDescriptions = new HashSet<>();
+
+            for (Object constant : constants) {
+                IStatusEnum statusEnum = (IStatusEnum) constant;
+                putIfAbsent(codes, statusEnum.getCode(), constant);
+                putIfAbsent(names, ((Enum<?>) constant).name(), constant);
+
+                String description = statusEnum.getDescription();
+                if (description != null && !putIfAbsent(descriptions, description, constant)) {
+                    ambiguousDescriptions.add(description.toLowerCase(Locale.ROOT));
+                }
+            }
+            descriptions.keySet().removeIf(description -> ambiguousDescriptions.contains(description.toLowerCase(Locale.ROOT)));
+
+            return new Index(new CaseInsensitiveTable(codes), new CaseInsensitiveTable(names), new CaseInsensitiveTable(descriptions));
+        }
+
+        private static boolean putIfAbsent(Map<String, Object> entries, String key, Object constant) {
+            if (key == null) {
+                return true;
+            }
+            for (String existing : entries.keySet()) {
+                if (existing.equalsIgnoreCase(key)) {
+                    return false;
+                }
+            }
+            entries.put(key, constant);
+            return true;
+        }
+    }
+
+    /**
+     * Open addressing hash table with case-insensitive String keys
+     */
+    private static final class CaseInsensitiveTable {
+
+        private final String[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        CaseInsensitiveTable(Map<String, Object> entries) {
+            int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2) - 1) << 1;
+            this.keys = new String[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+
+            entries.forEach((key, value) -> {
+                int slot = hash(key) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = value;
+            });
+        }
+
+        Object get(String key) {
+            if (key == null) {
+                return null;
+            }
+
+            int slot = hash(key) & mask;
+            String candidate;
+            while ((candidate = keys[slot]) != null) {
+                if (candidate.equalsIgnoreCase(key)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int hash(String key) {
+            int hash = 0;
+            for (int i = 0; i < key.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
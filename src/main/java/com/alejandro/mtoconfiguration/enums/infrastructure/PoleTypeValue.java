@@ -1,6 +1,7 @@
 package com.alejandro.mtoconfiguration.enums.infrastructure;
 
 import com.alejandro.mtoconfiguration.enums.IStatusEnum;
+import com.alejandro.mtoconfiguration.enums.StatusEnumRegistry;
 import lombok.Getter;
 
 import java.io.Serializable;
@@ -112,12 +113,7 @@ public enum PoleTypeValue implements IStatusEnum, Serializable {
      * @return the matching PoleTypeValue instance if found, or null if no match is found.
      */
     public static PoleTypeValue fromCode(String code) {
-        for (PoleTypeValue value : values()) {
-            if (value.getCode().equalsIgnoreCase(code)) {
-                return value;
-            }
-        }
-        return null;
+        return StatusEnumRegistry.fromCode(PoleTypeValue.class, code);
     }
 
     @Override
@@ -0,0 +1,18 @@
+package com.alejandro.mtoconfiguration.model.commons;
+
+/**
+ * Defines how the total number of elements of a paginated search is resolved.
+ */
+public enum CountStrategy {
+    // Runs a count query on every search (default)
+    EXACT,
+    // Skips the count; fetches one extra row to know if there is a next page
+    NONE,
+    // Uses the PostgreSQL planner statistics when the search has no filters, a count bounded to
+    // getEstimatedCountBound() rows otherwise; never lower than the rows already paged through
+    ESTIMATED,
+    // Reuses a recent exact count for the same entity and filters
+    CACHED,
+    // Fetches the page rows and count(*) over() in a single statement
+    WINDOW
+}
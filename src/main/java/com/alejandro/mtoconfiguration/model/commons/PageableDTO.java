@@ -15,4 +15,8 @@ public class PageableDTO {
     Integer size;
     List<String> sortBy;
     List<String> sortDirection;
+    // Opaque keyset cursor returned by the previous page; when present, the page is located by seek instead of offset
+    String cursor;
+    // How the total is resolved; EXACT when not informed
+    CountStrategy countStrategy;
 }
@@ -0,0 +1,37 @@
+package com.alejandro.mtoconfiguration.repository.feign.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the pooled HTTP transport shared by the Feign clients, mapped from
+ * "configuration.feign.repositories.transport".
+ *
+ * Fields include:
+ * - maxConnections / maxConnectionsPerRoute: size of the connection pool, in total and per downstream host.
+ * - connectTimeout / readTimeout: TCP connect and socket read timeouts.
+ * - poolTimeout: max time waiting for a free connection of the pool.
+ * - keepAlive: how long an idle connection is kept when the server does not send a Keep-Alive header.
+ * - idleTimeout: idle connections older than this are evicted by a background thread.
+ * - timeToLive: max lifetime of a connection, so DNS and load balancer changes are picked up.
+ * - validateAfterInactivity: idle time after which a pooled connection is checked before being reused.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.feign.repositories.transport")
+public class FeignTransportConfig {
+    private boolean enabled = true;
+    private int maxConnections = 200;
+    private int maxConnectionsPerRoute = 50;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration poolTimeout = Duration.ofSeconds(2);
+    private Duration keepAlive = Duration.ofMinutes(2);
+    private Duration idleTimeout = Duration.ofMinutes(1);
+    private Duration timeToLive = Duration.ofMinutes(10);
+    private Duration validateAfterInactivity = Duration.ofSeconds(5);
+    private boolean followRedirects = true;
+}
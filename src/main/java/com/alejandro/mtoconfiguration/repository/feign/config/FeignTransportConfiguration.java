@@ -0,0 +1,93 @@
+package com.alejandro.mtoconfiguration.repository.feign.config;
+
+import com.alejandro.mtoconfiguration.repository.feign.resilience.FeignResilienceConfig;
+import com.alejandro.mtoconfiguration.repository.feign.resilience.ResilientFeignClient;
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled Apache HttpClient 5 transport for every Feign client of the {@code repository.feign} package.
+ * Connections (and their TLS sessions) are kept alive and reused across requests instead of being opened per
+ * call; pool usage is published under the {@code httpcomponents.httpclient.pool.*} metrics with the
+ * {@code httpclient=feign} tag. Unless disabled, the client is decorated with the {@link ResilientFeignClient}
+ * bulkheads, deadlines, retries and hedging.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "configuration.feign.repositories.transport.enabled", havingValue = "true", matchIfMissing = true)
+public class FeignTransportConfiguration {
+
+    private final FeignTransportConfig feignTransportConfig;
+
+    private final FeignResilienceConfig feignResilienceConfig;
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(feignTransportConfig.getMaxConnections())
+                .setMaxConnPerRoute(feignTransportConfig.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(feignTransportConfig.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(feignTransportConfig.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(feignTransportConfig.getTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.of(feignTransportConfig.getValidateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(feignTransportConfig.getPoolTimeout()))
+                        .setResponseTimeout(Timeout.of(feignTransportConfig.getReadTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(feignTransportConfig.getKeepAlive()))
+                        .setRedirectsEnabled(feignTransportConfig.isFollowRedirects())
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(feignTransportConfig.getIdleTimeout()))
+                .disableCookieManagement()
+                .build();
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient feignHttpClient, MeterRegistry meterRegistry) {
+        Client client = new ApacheHttp5Client(feignHttpClient);
+
+        return feignResilienceConfig.isEnabled()
+                ? new ResilientFeignClient(client, feignResilienceConfig, meterRegistry)
+                : client;
+    }
+
+    @Bean
+    public Request.Options feignRequestOptions() {
+        return new Request.Options(
+                feignTransportConfig.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                feignTransportConfig.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                feignTransportConfig.isFollowRedirects());
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+    }
+}
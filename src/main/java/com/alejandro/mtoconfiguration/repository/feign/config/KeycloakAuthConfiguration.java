@@ -1,6 +1,7 @@
 package com.alejandro.mtoconfiguration.repository.feign.config;
 
 import com.alejandro.mtoconfiguration.repository.feign.token.InternalClientFeignToken;
+import com.alejandro.mtoconfiguration.repository.feign.token.KeycloakTokenCache;
 import com.alejandro.mtoconfiguration.repository.feign.token.config.InternalClientFeignTokenConfig;
 import com.alejandro.mtoconfiguration.repository.feign.token.model.KeycloakTokenResponse;
 import feign.RequestInterceptor;
@@ -9,9 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.http.HttpHeaders;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Configuration class for Keycloak authentication using Feign interceptors. This class
@@ -24,6 +23,8 @@ import java.util.Optional;
  *   requests to Keycloak's token endpoint to retrieve access tokens.
  * - {@link InternalClientFeignTokenConfig}: Configuration class that holds the client
  *   credentials, grant type, and other properties needed to obtain tokens from Keycloak.
+ * - {@link KeycloakTokenCache}: Cache that reuses the token until it expires and refreshes
+ *   it in the background, so Keycloak is not called for every outgoing request.
  *
  * The `apply` method retrieves an access token by using the configured client details,
  * and adds the token as a Bearer token in the Authorization header of outgoing requests
@@ -32,8 +33,8 @@ import java.util.Optional;
  * Responsibilities:
  * 1. Prepare the request form data needed to authenticate with Keycloak, using properties
  *    retrieved from {@link InternalClientFeignTokenConfig}.
- * 2. Retrieve the {@link KeycloakTokenResponse} from Keycloak via the
- *    {@link InternalClientFeignToken#getToken(Map)} call.
+ * 2. Retrieve the {@link KeycloakTokenResponse} from the {@link KeycloakTokenCache}, which
+ *    calls {@link InternalClientFeignToken#getToken(Map)} only when no valid token is cached.
  * 3. Add the Authorization header (in the form of Bearer tokens) to the request template
  *    if it is missing.
  *
@@ -49,24 +50,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class KeycloakAuthConfiguration implements RequestInterceptor {
 
-    private final InternalClientFeignToken internalClientFeignToken;
+    private final KeycloakTokenCache keycloakTokenCache;
 
     private final InternalClientFeignTokenConfig internalClientFeignTokenConfig;
 
     @Override
     public void apply(RequestTemplate requestTemplate) {
-        Map<String, Object> form = new HashMap<>();
-        form.put("grant_type", internalClientFeignTokenConfig.getGrant_type());
-        form.put("client_id", internalClientFeignTokenConfig.getClient_id());
-        form.put("client_secret", internalClientFeignTokenConfig.getClient_secret());
-        form.put("scope", internalClientFeignTokenConfig.getScope());
-        form.put("username", internalClientFeignTokenConfig.getUsername());
-        form.put("password", internalClientFeignTokenConfig.getPassword());
-
-        KeycloakTokenResponse token = Optional.ofNullable(internalClientFeignToken.getToken(form).getBody())
-                .orElse(new KeycloakTokenResponse());
-
         if (CollectionUtils.isEmpty(requestTemplate.headers().get(HttpHeaders.AUTHORIZATION))) {
+            KeycloakTokenResponse token = keycloakTokenCache.getToken(internalClientFeignTokenConfig);
             requestTemplate.header(HttpHeaders.AUTHORIZATION, token.getTokenType() + " " + token.getAccessToken());
         }
     }
@@ -0,0 +1,49 @@
+package com.alejandro.mtoconfiguration.repository.feign.resilience;
+
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCode;
+import com.alejandro.mtoconfiguration.validator.commons.StandardErrorCodes;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+
+/**
+ * Maps the outcome of a Feign call to the catalog error it represents, so {@link ErrorCode#retryable()} decides
+ * whether it is worth another attempt.
+ */
+final class FeignErrorClassifier {
+
+    private FeignErrorClassifier() {
+    }
+
+    /**
+     * Returns the error of the response, or null when the status is not an error
+     */
+    static ErrorCode classify(Response response) {
+        int status = response.status();
+
+        if (status < 400) {
+            return null;
+        }
+
+        return switch (status) {
+            case 401 -> StandardErrorCodes.UNAUTHORIZED.errorCode();
+            case 403 -> StandardErrorCodes.FORBIDDEN.errorCode();
+            case 404 -> StandardErrorCodes.RESOURCE_NOT_FOUND.errorCode();
+            case 409 -> StandardErrorCodes.CONCURRENCY_CONFLICT.errorCode();
+            case 408, 504 -> StandardErrorCodes.INTEGRATION_TIMEOUT.errorCode();
+            case 429, 502, 503 -> StandardErrorCodes.INTEGRATION_ERROR.errorCode();
+            case 500 -> StandardErrorCodes.UNEXPECTED_ERROR.errorCode();
+            default -> status >= 500
+                    ? StandardErrorCodes.INTEGRATION_ERROR.errorCode()
+                    : StandardErrorCodes.BUSINESS_RULE_VIOLATION.errorCode();
+        };
+    }
+
+    static ErrorCode classify(IOException exception) {
+        return exception instanceof SocketTimeoutException || exception instanceof InterruptedIOException
+                ? StandardErrorCodes.INTEGRATION_TIMEOUT.errorCode()
+                : StandardErrorCodes.INTEGRATION_ERROR.errorCode();
+    }
+}
@@ -0,0 +1,47 @@
+package com.alejandro.mtoconfiguration.repository.feign.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resilience policies of the Feign clients, mapped from "configuration.feign.repositories.resilience".
+ * The {@code defaults} policy applies to every client without an entry in {@code clients} (keyed by Feign client name).
+ *
+ * Policy fields:
+ * - maxConcurrentCalls / maxWait: bulkhead size and max time waiting for a free slot.
+ * - deadline: total time budget of a call, retries and backoff included.
+ * - maxAttempts / initialBackoff / maxBackoff: retries of retryable errors with exponential backoff and full jitter.
+ * - retryNonIdempotent: retry POST/PATCH calls too; otherwise they are only retried when the connection failed.
+ * - hedgeEnabled / hedgeDelay: for GET calls, send a second request when the first has not answered after the delay.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.feign.repositories.resilience")
+public class FeignResilienceConfig {
+
+    private boolean enabled = true;
+    private Policy defaults = new Policy();
+    private Map<String, Policy> clients = new HashMap<>();
+
+    public Policy policy(String clientName) {
+        return clients.getOrDefault(clientName, defaults);
+    }
+
+    @Data
+    public static class Policy {
+        private int maxConcurrentCalls = 50;
+        private Duration maxWait = Duration.ofMillis(100);
+        private Duration deadline = Duration.ofSeconds(15);
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(2);
+        private boolean retryNonIdempotent = false;
+        private boolean hedgeEnabled = false;
+        private Duration hedgeDelay = Duration.ofMillis(300);
+    }
+}
@@ -0,0 +1,238 @@
+package com.alejandro.mtoconfiguration.repository.feign.resilience;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+import com.alejandro.mtoconfiguration.core.exception.RailwayInfrastructureException;
+import com.alejandro.mtoconfiguration.core.exception.StacklessRailwayInfrastructureException;
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCode;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feign {@link Client} decorator that bounds how much a slow downstream service can hold the request threads.
+ * <ul>
+ *     <li>Bulkhead: at most {@code maxConcurrentCalls} calls in flight per Feign client; callers that do not get
+ *     a slot within {@code maxWait} fail fast with RIE005.</li>
+ *     <li>Deadline: the whole call, retries and backoff included, must finish within {@code deadline} (RIE006);
+ *     the read timeout of each attempt is shortened to the remaining budget.</li>
+ *     <li>Retry: errors whose catalog {@link ErrorCode#retryable()} is true are retried with exponential backoff
+ *     and full jitter. Non idempotent methods are only retried when the connection could not be opened.</li>
+ *     <li>Hedging: optionally, a GET that has not answered after {@code hedgeDelay} is sent again and the first
+ *     successful response wins.</li>
+ * </ul>
+ * It only depends on the delegate client, so it can be exercised against a local stub server.
+ */
+@Slf4j
+public class ResilientFeignClient implements Client, AutoCloseable {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final String DEFAULT_CLIENT = "default";
+
+    private final Client delegate;
+    private final FeignResilienceConfig resilienceConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ResilientFeignClient(Client delegate, FeignResilienceConfig resilienceConfig, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.resilienceConfig = resilienceConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String clientName = clientName(request);
+        FeignResilienceConfig.Policy policy = resilienceConfig.policy(clientName);
+        long deadline = System.nanoTime() + policy.getDeadline().toNanos();
+
+        Semaphore bulkhead = bulkheads.computeIfAbsent(clientName, name -> new Semaphore(policy.getMaxConcurrentCalls()));
+        if (!tryAcquire(bulkhead, policy.getMaxWait())) {
+            record(clientName, "rejected");
+            throw new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE005);
+        }
+
+        try {
+            return executeWithRetry(request, options, policy, clientName, deadline);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Response executeWithRetry(Request request, Request.Options options, FeignResilienceConfig.Policy policy,
+                                      String clientName, long deadline) throws IOException {
+        boolean idempotent = IDEMPOTENT_METHODS.contains(request.httpMethod().name());
+
+        for (int attempt = 1; ; attempt++) {
+            Request.Options attemptOptions = withinDeadline(options, deadline, clientName);
+            boolean lastAttempt = attempt >= policy.getMaxAttempts();
+
+            try {
+                Response response = policy.isHedgeEnabled() && "GET".equals(request.httpMethod().name())
+                        ? executeHedged(request, attemptOptions, policy, clientName, deadline)
+                        : delegate.execute(request, attemptOptions);
+
+                ErrorCode errorCode = FeignErrorClassifier.classify(response);
+                if (errorCode == null || !errorCode.retryable() || !idempotent && !policy.isRetryNonIdempotent() || lastAttempt) {
+                    return response;
+                }
+
+                response.close();
+                log.debug("Retrying {} {} after {} ({})", request.httpMethod(), request.url(), response.status(), errorCode.code());
+            } catch (IOException e) {
+                ErrorCode errorCode = FeignErrorClassifier.classify(e);
+                boolean sent = !(e instanceof ConnectException);
+                if (!errorCode.retryable() || sent && !idempotent && !policy.isRetryNonIdempotent() || lastAttempt) {
+                    throw e;
+                }
+                log.debug("Retrying {} {} after {}", request.httpMethod(), request.url(), e.toString());
+            }
+
+            record(clientName, "retry");
+            backoff(attempt, policy, deadline, clientName);
+        }
+    }
+
+    /**
+     * Sends the request and, if it has not answered after the hedge delay, a second one; the first success wins and
+     * the late response is closed
+     */
+    private Response executeHedged(Request request, Request.Options options, FeignResilienceConfig.Policy policy,
+                                   String clientName, long deadline) throws IOException {
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+
+        submit(request, options, winner, pending);
+        awaitFirst(winner, Math.min(policy.getHedgeDelay().toNanos(), remaining(deadline)));
+
+        if (!winner.isDone() && remaining(deadline) > 0 && pending.incrementAndGet() > 1) {
+            record(clientName, "hedge");
+            submit(request, options, winner, pending);
+        }
+
+        awaitFirst(winner, remaining(deadline));
+        if (!winner.isDone()) {
+            winner.cancel(false);
+            throw deadlineExceeded(clientName);
+        }
+
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            // Surface the delegate's own failure, as the non hedged path does
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void submit(Request request, Request.Options options, CompletableFuture<Response> winner, AtomicInteger pending) {
+        hedgeExecutor.execute(() -> {
+            try {
+                Response response = delegate.execute(request, options);
+                if (!winner.complete(response)) {
+                    response.close();
+                }
+            } catch (IOException e) {
+                // Only fail once every attempt has failed
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(new UncheckedIOException(e));
+                }
+            } catch (RuntimeException e) {
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private static void awaitFirst(CompletableFuture<Response> winner, long timeoutNanos) {
+        try {
+            winner.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Checked by the caller through isDone()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Full jitter: sleeps a random time between zero and the exponential backoff of the attempt
+     */
+    private void backoff(int attempt, FeignResilienceConfig.Policy policy, long deadline, String clientName) {
+        long exponential = policy.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+        long cap = Math.min(exponential, policy.getMaxBackoff().toNanos());
+        long sleep = ThreadLocalRandom.current().nextLong(cap + 1);
+
+        if (sleep >= remaining(deadline)) {
+            throw deadlineExceeded(clientName);
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw deadlineExceeded(clientName);
+        }
+    }
+
+    private Request.Options withinDeadline(Request.Options options, long deadline, String clientName) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remaining(deadline));
+        if (remainingMillis <= 0) {
+            throw deadlineExceeded(clientName);
+        }
+
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+
+    private RailwayInfrastructureException deadlineExceeded(String clientName) {
+        record(clientName, "deadline");
+        return new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE006);
+    }
+
+    private static long remaining(long deadline) {
+        return deadline - System.nanoTime();
+    }
+
+    private static boolean tryAcquire(Semaphore bulkhead, Duration maxWait) {
+        try {
+            return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String clientName(Request request) {
+        return request.requestTemplate() != null && request.requestTemplate().feignTarget() != null
+                ? request.requestTemplate().feignTarget().name()
+                : DEFAULT_CLIENT;
+    }
+
+    @Override
+    public void close() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private void record(String clientName, String event) {
+        meterRegistry.counter("mto.feign.resilience", "client", clientName, "event", event).increment();
+    }
+}
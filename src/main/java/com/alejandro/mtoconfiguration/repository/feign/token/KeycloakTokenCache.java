@@ -0,0 +1,244 @@
+package com.alejandro.mtoconfiguration.repository.feign.token;
+
+import com.alejandro.mtoconfiguration.repository.feign.token.config.InternalClientFeignTokenConfig;
+import com.alejandro.mtoconfiguration.repository.feign.token.config.TokenCacheConfig;
+import com.alejandro.mtoconfiguration.repository.feign.token.model.KeycloakTokenResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache of the Keycloak access tokens used by the Feign clients, keyed by client configuration.
+ * <p>
+ * A token is reused until its {@code expires_in} (minus a skew) and refreshed in the background once the configured
+ * fraction of its lifetime has elapsed, as long as it is still being used. Concurrent misses of the same client share
+ * a single request to Keycloak, and refreshes use the {@code refresh_token} grant while the refresh token is valid,
+ * falling back to the configured grant.
+ */
+@Slf4j
+@Component
+public class KeycloakTokenCache {
+
+    private static final String REFRESH_TOKEN_GRANT = "refresh_token";
+
+    private final InternalClientFeignToken internalClientFeignToken;
+    private final TokenCacheConfig tokenCacheConfig;
+
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<TokenKey, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refreshExecutor;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final MeterRegistry meterRegistry;
+
+    public KeycloakTokenCache(InternalClientFeignToken internalClientFeignToken, TokenCacheConfig tokenCacheConfig,
+                              MeterRegistry meterRegistry) {
+        this.internalClientFeignToken = internalClientFeignToken;
+        this.tokenCacheConfig = tokenCacheConfig;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("mto.feign.token.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("mto.feign.token.cache").tag("result", "miss").register(meterRegistry);
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keycloak-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a valid token for the client configuration, requesting one only when there is none cached
+     */
+    public KeycloakTokenResponse getToken(InternalClientFeignTokenConfig config) {
+        if (!tokenCacheConfig.isEnabled()) {
+            return fetch(TokenKey.of(config), config, null).response();
+        }
+
+        TokenKey key = TokenKey.of(config);
+        CachedToken cached = tokens.get(key);
+        Instant now = Instant.now();
+
+        if (cached != null && cached.isValid(now)) {
+            hits.increment();
+            cached.markUsed();
+            return cached.response();
+        }
+
+        misses.increment();
+        CachedToken loaded = load(key, config);
+        loaded.markUsed();
+        return loaded.response();
+    }
+
+    /**
+     * Drops the cached token of the client, e.g. after the downstream service rejected it
+     */
+    public void invalidate(InternalClientFeignTokenConfig config) {
+        tokens.remove(TokenKey.of(config));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Single-flight load: the first caller requests the token, concurrent callers wait for its result
+     */
+    private CachedToken load(TokenKey key, InternalClientFeignTokenConfig config) {
+        CompletableFuture<CachedToken> future = new CompletableFuture<>();
+        CompletableFuture<CachedToken> running = inFlight.putIfAbsent(key, future);
+
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            CachedToken token = fetch(key, config, tokens.get(key));
+            if (token.isCacheable()) {
+                tokens.put(key, token);
+                scheduleRefresh(key, config, token);
+            }
+            future.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void scheduleRefresh(TokenKey key, InternalClientFeignTokenConfig config, CachedToken token) {
+        long delay = Math.max(0, Duration.between(Instant.now(), token.refreshAt()).toMillis());
+
+        refreshExecutor.schedule(() -> {
+            // Idle clients let their token expire instead of refreshing it forever
+            if (tokens.get(key) != token || !token.isUsed()) {
+                tokens.remove(key, token);
+                return;
+            }
+            try {
+                load(key, config);
+            } catch (RuntimeException e) {
+                log.warn("Background refresh of the token of {} failed: {}", key.clientId(), e.getMessage());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private CachedToken fetch(TokenKey key, InternalClientFeignTokenConfig config, CachedToken previous) {
+        Instant now = Instant.now();
+
+        if (previous != null && previous.canRefresh(now)) {
+            try {
+                return request(key, refreshTokenForm(config, previous.response().getRefreshToken()), REFRESH_TOKEN_GRANT);
+            } catch (RuntimeException e) {
+                log.debug("Refresh token of {} rejected, requesting a new token", key.clientId(), e);
+            }
+        }
+
+        return request(key, credentialsForm(config), config.getGrant_type());
+    }
+
+    private CachedToken request(TokenKey key, Map<String, Object> form, String grantType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            KeycloakTokenResponse response = Optional.ofNullable(internalClientFeignToken.getToken(form).getBody())
+                    .orElse(new KeycloakTokenResponse());
+            outcome = StringUtils.isNotBlank(response.getAccessToken()) ? "success" : "empty";
+            return CachedToken.of(response, Instant.now(), tokenCacheConfig);
+        } finally {
+            sample.stop(Timer.builder("mto.feign.token.fetch")
+                    .tag("grant", StringUtils.defaultString(grantType))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Map<String, Object> credentialsForm(InternalClientFeignTokenConfig config) {
+        Map<String, Object> form = new HashMap<>();
+        form.put("grant_type", config.getGrant_type());
+        form.put("client_id", config.getClient_id());
+        form.put("client_secret", config.getClient_secret());
+        form.put("scope", config.getScope());
+        form.put("username", config.getUsername());
+        form.put("password", config.getPassword());
+        return form;
+    }
+
+    private static Map<String, Object> refreshTokenForm(InternalClientFeignTokenConfig config, String refreshToken) {
+        Map<String, Object> form = new HashMap<>();
+        form.put("grant_type", REFRESH_TOKEN_GRANT);
+        form.put("client_id", config.getClient_id());
+        form.put("client_secret", config.getClient_secret());
+        form.put("refresh_token", refreshToken);
+        return form;
+    }
+
+    private static CachedToken join(CompletableFuture<CachedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record TokenKey(String clientId, String grantType, String scope, String username) {
+
+        static TokenKey of(InternalClientFeignTokenConfig config) {
+            return new TokenKey(config.getClient_id(), config.getGrant_type(), config.getScope(), config.getUsername());
+        }
+    }
+
+    private record CachedToken(KeycloakTokenResponse response, Instant expiresAt, Instant refreshAt,
+                               Instant refreshExpiresAt, AtomicBoolean used) {
+
+        static CachedToken of(KeycloakTokenResponse response, Instant fetchedAt, TokenCacheConfig config) {
+            Duration lifetime = Duration.ofSeconds(Math.max(0, response.getExpiresIn()));
+            Duration refreshAfter = Duration.ofMillis((long) (lifetime.toMillis() * config.getRefreshRatio()));
+
+            return new CachedToken(response,
+                    fetchedAt.plus(lifetime).minus(config.getExpirySkew()),
+                    fetchedAt.plus(refreshAfter),
+                    fetchedAt.plusSeconds(Math.max(0, response.getRefresh_expiresIn())).minus(config.getExpirySkew()),
+                    new AtomicBoolean());
+        }
+
+        boolean isCacheable() {
+            return StringUtils.isNotBlank(response.getAccessToken()) && expiresAt.isAfter(Instant.now());
+        }
+
+        boolean isValid(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+
+        boolean canRefresh(Instant now) {
+            return StringUtils.isNotBlank(response.getRefreshToken()) && now.isBefore(refreshExpiresAt);
+        }
+
+        void markUsed() {
+            used.lazySet(true);
+        }
+
+        boolean isUsed() {
+            return used.get();
+        }
+    }
+}
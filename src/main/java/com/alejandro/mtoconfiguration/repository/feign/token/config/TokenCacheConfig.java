@@ -0,0 +1,25 @@
+package com.alejandro.mtoconfiguration.repository.feign.token.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the Keycloak token cache used by the Feign clients, mapped from
+ * "configuration.feign.repositories.token-client.cache".
+ *
+ * Fields include:
+ * - enabled: when false a token is requested for every outgoing request.
+ * - refreshRatio: fraction of the token lifetime after which it is refreshed in the background.
+ * - expirySkew: margin subtracted from the expiry to absorb clock skew and request latency.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.feign.repositories.token-client.cache")
+public class TokenCacheConfig {
+    private boolean enabled = true;
+    private double refreshRatio = 0.75;
+    private Duration expirySkew = Duration.ofSeconds(10);
+}
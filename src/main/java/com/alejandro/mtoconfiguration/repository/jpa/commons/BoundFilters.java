@@ -0,0 +1,103 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * Request filters bound against a {@link FilterSchema}: typed values in declaration order, with multi-valued
+ * filters as immutable typed lists. It is also a read-only {@code Map}, so it travels through the existing
+ * {@code buildPredicate(..., Map<String, Object> filters, ...)} contract and the untyped PredicateBuilder methods
+ * keep working on it: filters the schema does not declare are passed through with their raw value, and the date
+ * helpers accept the typed values of the declared ones.
+ */
+public final class BoundFilters extends AbstractMap<String, Object> {
+
+    private static final List<String> FREE_TEXT_FILTERS = List.of("search", "searchText");
+
+    private final List<BoundFilter> filters;
+    private final Map<String, Object> values;
+
+    private BoundFilters(List<BoundFilter> filters, Map<String, Object> values) {
+        this.filters = filters;
+        this.values = values;
+    }
+
+    static BoundFilters bind(FilterSchema schema, Map<String, Object> rawFilters) {
+        if (rawFilters == null || rawFilters.isEmpty()) {
+            return new BoundFilters(List.of(), Map.of());
+        }
+
+        List<BoundFilter> filters = new ArrayList<>();
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        for (FilterDefinition definition : schema.getDefinitions()) {
+            Object raw = rawFilters.get(definition.name());
+            Object value = definition.operator().isMultiValued()
+                    ? FilterValues.convertAll(definition, raw)
+                    : FilterValues.convert(definition, raw);
+
+            if (value == null || value instanceof List<?> list && list.isEmpty()) {
+                continue;
+            }
+
+            filters.add(new BoundFilter(definition, value));
+            values.put(definition.name(), value);
+        }
+
+        // Undeclared filters are still read by the legacy buildPredicate code, so they are kept untouched
+        rawFilters.forEach((name, raw) -> {
+            if (raw == null || schema.contains(name)) {
+                return;
+            }
+            if (!FREE_TEXT_FILTERS.contains(name)) {
+                values.put(name, raw);
+            } else if (StringUtils.isNotBlank(raw.toString())) {
+                values.put(name, raw.toString());
+            }
+        });
+
+        return new BoundFilters(List.copyOf(filters), Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * Bound filters with a value, in schema declaration order
+     */
+    public List<BoundFilter> getFilters() {
+        return filters;
+    }
+
+    public Optional<BoundFilter> getFilter(String name) {
+        for (BoundFilter filter : filters) {
+            if (filter.definition().name().equals(name)) {
+                return Optional.of(filter);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return values.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return values.entrySet();
+    }
+
+    /**
+     * Filter definition with its typed value; a {@code List} for multi-valued operators
+     */
+    public record BoundFilter(FilterDefinition definition, Object value) {
+
+        public List<?> values() {
+            return value instanceof List<?> list ? list : List.of(value);
+        }
+    }
+}
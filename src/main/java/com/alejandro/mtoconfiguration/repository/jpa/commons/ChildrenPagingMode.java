@@ -0,0 +1,12 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+/**
+ * Strategies used by {@link CriteriaSearchRepository#criteriaSearchWithChildren} to page parents whose
+ * search joins child rows.
+ */
+public enum ChildrenPagingMode {
+    // Fetches (offset + size) * getMaxNumberOfChildPerParent() ids and deduplicates them in memory
+    OVER_FETCH,
+    // Groups by parent id in the database and pages the distinct parents directly
+    DISTINCT_PARENT
+}
@@ -3,33 +3,57 @@ package com.alejandro.mtoconfiguration.repository.jpa.commons;
 import com.alejandro.mtoconfiguration.entity.commons.BaseEntity;
 import com.alejandro.mtoconfiguration.entity.commons.BaseEntity_;
 import com.alejandro.mtoconfiguration.entity.commons.IEntity;
+import com.alejandro.mtoconfiguration.model.commons.CountStrategy;
 import com.alejandro.mtoconfiguration.model.commons.PageableDTO;
 import com.alejandro.mtoconfiguration.model.commons.SearchRequestDTO;
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
-import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.EntityType;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.util.*;
 
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface CriteriaSearchRepository<E extends IEntity> {
 
+    String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
     Predicate buildPredicate(CriteriaBuilder criteriaBuilder, Root<E> root, Map<String, Object> filters, Map<String, Object> params);
 
     default Map<String, String> getEnhancedProperties() {
         return new HashMap<>();
     }
 
+    /**
+     * Declares the sort aliases of the repository; by default the {@link #getEnhancedProperties()} map.
+     * Resolved once per repository class, override to declare join types for the mapped paths.
+     */
+    default SortPropertyMapping getSortPropertyMapping() {
+        return SortPropertyMapping.of(getEnhancedProperties());
+    }
+
     /**
      * Enhances sort properties for entity fields if non‑empty
      */
@@ -38,66 +62,368 @@ public interface CriteriaSearchRepository<E extends IEntity> {
             return sort;
         }
 
+        SortPropertyMapping sortPropertyMapping = this.sortPropertyMapping();
         return Sort.by(sort.stream().map(order -> {
-            if (StringUtils.isNotBlank(order.getProperty()) && getEnhancedProperties().containsKey(order.getProperty())) {
-                return new Sort.Order(order.getDirection(), getEnhancedProperties().get(order.getProperty()));
+            if (StringUtils.isNotBlank(order.getProperty()) && sortPropertyMapping.contains(order.getProperty())) {
+                return new Sort.Order(order.getDirection(), sortPropertyMapping.getPath(order.getProperty()));
             } else {
                 return order;
             }
         }).collect(Collectors.toList()));
     }
 
+    private SortPropertyMapping sortPropertyMapping() {
+        return SortPropertyMapping.forRepository(getClass(), this::getSortPropertyMapping);
+    }
+
+    /**
+     * Declares the typed filters of the repository; when not empty, buildPredicate receives {@link BoundFilters}
+     */
+    default FilterSchema getFilterSchema() {
+        return FilterSchema.EMPTY;
+    }
+
+    private Map<String, Object> bindFilters(Map<String, Object> filters) {
+        FilterSchema filterSchema = FilterSchema.forRepository(getClass(), this::getFilterSchema);
+        return filterSchema.isEmpty() ? filters : filterSchema.bind(filters);
+    }
+
     /**
      * Configures paginated criteria query for entity search
      */
     default Page<E> criteriaSearch(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
                                    EntityManager entityManager, Map<String, Object> params) {
+        CountStrategy countStrategy = Optional.ofNullable(searchRequestDTO.getPageable().getCountStrategy())
+                .orElse(CountStrategy.EXACT);
+
+        return this.criteriaSearch(entityClass, searchRequestDTO, entityManager, params, countStrategy);
+    }
+
+    /**
+     * Configures paginated criteria query resolving the total with the given count strategy
+     */
+    @SuppressWarnings("unchecked")
+    default Page<E> criteriaSearch(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                                   EntityManager entityManager, Map<String, Object> params, CountStrategy countStrategy) {
 
         PageableDTO pageable = searchRequestDTO.getPageable();
 
-        // Converts sort parameters to sort order list
-        List<Sort.Order> orders = IntStream.range(0, pageable.getSortBy().size())
+        PageRequest pageRequest = PageRequest.of(pageable.getPage(), pageable.getSize(), this.getRequestSort(pageable));
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        // The window strategy selects (entity, count(*) over()) tuples to get the page and the total in one statement
+        boolean windowCount = countStrategy == CountStrategy.WINDOW && criteriaBuilder instanceof HibernateCriteriaBuilder;
+        CriteriaQuery<?> criteriaQuery = windowCount
+                ? criteriaBuilder.createTupleQuery()
+                : criteriaBuilder.createQuery(entityClass);
+        Root<E> entityRoot = criteriaQuery.from(entityClass);
+        Predicate predicate = this.buildPredicate(criteriaBuilder, entityRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
+
+        // Sort columns followed by the id tie-break; the same list drives the order by and the keyset predicate
+        KeysetPlanCache.KeysetPlan keysetPlan = this.getKeysetPlan(entityClass, pageRequest.getSort());
+        List<Sort.Order> keysetOrders = keysetPlan.orders();
+        List<Path<?>> keysetPaths = keysetOrders.stream()
+                .<Path<?>>map(order -> this.getPath(entityRoot, order.getProperty()))
+                .toList();
+
+        criteriaQuery.orderBy(IntStream.range(0, keysetOrders.size())
+                .mapToObj(i -> keysetOrders.get(i).isAscending()
+                        ? criteriaBuilder.asc(keysetPaths.get(i))
+                        : criteriaBuilder.desc(keysetPaths.get(i)))
+                .toList());
+
+        String sortSpec = keysetPlan.sortSpec();
+        KeysetCursor cursor = KeysetCursor.decode(pageable.getCursor(), sortSpec, keysetOrders.size());
+        Predicate pagePredicate = cursor != null
+                ? this.and(criteriaBuilder, predicate, this.keysetPredicate(criteriaBuilder, keysetOrders, keysetPaths, cursor))
+                : predicate;
+        if (pagePredicate != null) {
+            criteriaQuery.where(pagePredicate);
+        }
+
+        // One extra row is fetched to know if there is a next page, so an exactly full last page emits no cursor
+        int pageSize = pageRequest.getPageSize();
+        int fetchSize = pageSize + 1;
+
+        // With a cursor the page is located by the keyset predicate, so no rows have to be skipped
+        int firstResult = cursor != null ? 0 : (int) pageRequest.getOffset();
+        Long windowTotal = null;
+        List<E> rows;
+        if (windowCount) {
+            HibernateCriteriaBuilder hibernateCriteriaBuilder = (HibernateCriteriaBuilder) criteriaBuilder;
+            CriteriaQuery<Tuple> tupleQuery = (CriteriaQuery<Tuple>) criteriaQuery;
+            tupleQuery.multiselect(entityRoot, hibernateCriteriaBuilder.count(entityRoot, hibernateCriteriaBuilder.createWindow()));
+
+            List<Tuple> tuples = entityManager.createQuery(tupleQuery)
+                    .setFirstResult(firstResult)
+                    .setMaxResults(fetchSize).getResultList();
+
+            rows = tuples.stream().map(tuple -> tuple.get(0, entityClass)).collect(Collectors.toList());
+            // The window counts the rows after the cursor when seeking, so the skipped pages are added back
+            windowTotal = tuples.isEmpty() ? null : (cursor != null ? pageRequest.getOffset() : 0) + tuples.getFirst().get(1, Long.class);
+        } else {
+            rows = entityManager.createQuery((CriteriaQuery<E>) criteriaQuery)
+                    .setFirstResult(firstResult)
+                    .setMaxResults(fetchSize).getResultList();
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<E> results = rows.size() > pageSize ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        long count = switch (countStrategy) {
+            case NONE -> pageRequest.getOffset() + results.size() + (hasNext ? 1 : 0);
+            // Statistics for the whole table, a bounded count for filtered searches; never below the rows already seen
+            case ESTIMATED -> Math.max(pageRequest.getOffset() + results.size() + (hasNext ? 1 : 0),
+                    (predicate == null ? this.estimateCount(entityClass, entityManager) : Optional.<Long>empty())
+                            .orElseGet(() -> this.boundedCount(entityClass, searchRequestDTO, entityManager, params)));
+            case CACHED -> SearchCountCache.get(entityClass, searchRequestDTO.getFilters(), params, this.getCountCacheTtl(),
+                    () -> this.countSearch(entityClass, searchRequestDTO, entityManager, params));
+            // An empty page past the first one carries no window value, so it falls back to the exact count
+            case WINDOW -> windowTotal != null ? windowTotal
+                    : windowCount && firstResult == 0 && cursor == null ? 0L
+                    : this.countSearch(entityClass, searchRequestDTO, entityManager, params);
+            case EXACT -> this.countSearch(entityClass, searchRequestDTO, entityManager, params);
+        };
+
+        String nextCursor = hasNext
+                ? KeysetCursor.encode(results.getLast(), keysetPlan.properties(), sortSpec)
+                : null;
+
+        return new KeysetPage<>(results, pageRequest, count, nextCursor);
+    }
+
+    /**
+     * Converts sort parameters to sort order list
+     */
+    default Sort getRequestSort(PageableDTO pageable) {
+        if (pageable == null || CollectionUtils.isEmpty(pageable.getSortBy())) {
+            return Sort.unsorted();
+        }
+
+        return Sort.by(IntStream.range(0, pageable.getSortBy().size())
                 .mapToObj(i -> new Sort.Order(
                         Sort.Direction.fromString(pageable.getSortDirection().get(i)),
                         pageable.getSortBy().get(i)))
-                .toList();
-
+                .toList());
+    }
 
-        PageRequest pageRequest = PageRequest.of(pageable.getPage(), pageable.getSize(), Sort.by(orders));
+    /**
+     * Streams every entity matching the search through a forward-only cursor, ignoring the page and size.
+     * Rows are read {@link #getStreamFetchSize()} at a time and the persistence context is cleared every
+     * {@link #getStreamClearInterval()} rows, so memory stays flat whatever the result size.
+     * <p>
+     * Must be consumed inside a transaction (the PostgreSQL driver only honours the fetch size with auto-commit
+     * disabled) and closed afterwards, e.g. with try-with-resources. Entities handed out before a clear are
+     * detached, as is anything else the caller loaded in the same persistence context.
+     */
+    @SuppressWarnings("unchecked")
+    default Stream<E> criteriaStream(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                                     EntityManager entityManager, Map<String, Object> params) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery(entityClass);
         Root<E> entityRoot = criteriaQuery.from(entityClass);
-        Predicate predicate = this.buildPredicate(criteriaBuilder, entityRoot, searchRequestDTO.getFilters(), params);
+
+        Predicate predicate = this.buildPredicate(criteriaBuilder, entityRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
         if (predicate != null) {
             criteriaQuery.where(predicate);
         }
 
-        if (pageRequest.getSort().isSorted()) {
-            Sort sort = this.enhanceSortForEntityFields(pageRequest.getSort());
-            sort.forEach(order -> {
-                Path<E> path = this.getPath(entityRoot, order.getProperty());
-                Path<E> idPath = this.getPath(entityRoot, "id");
-                if (order.isAscending()) {
-                    criteriaQuery.orderBy(criteriaBuilder.asc(path), criteriaBuilder.asc(idPath));
-                } else {
-                    criteriaQuery.orderBy(criteriaBuilder.desc(path), criteriaBuilder.desc(idPath));
-                }
-            });
+        criteriaQuery.orderBy(this.getKeysetOrders(this.getRequestSort(searchRequestDTO.getPageable())).stream()
+                .map(order -> order.isAscending()
+                        ? criteriaBuilder.asc(this.getPath(entityRoot, order.getProperty()))
+                        : criteriaBuilder.desc(this.getPath(entityRoot, order.getProperty())))
+                .toList());
+
+        ScrollableResults<E> scrollableResults = entityManager.createQuery(criteriaQuery)
+                .unwrap(org.hibernate.query.Query.class)
+                .setFetchSize(this.getStreamFetchSize())
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY);
+
+        return StreamSupport.stream(
+                        new ScrollableResultsSpliterator<>(scrollableResults, entityManager, this.getStreamClearInterval()), false)
+                .onClose(scrollableResults::close);
+    }
 
-        }
+    /**
+     * Number of rows fetched per round trip by {@link #criteriaStream}
+     */
+    default int getStreamFetchSize() {
+        return 500;
+    }
+
+    /**
+     * Number of rows after which {@link #criteriaStream} clears the persistence context
+     */
+    default int getStreamClearInterval() {
+        return 1000;
+    }
+
+    /**
+     * Searches without counting; fetches one extra row to resolve {@link Slice#hasNext()}
+     */
+    default Slice<E> criteriaSlice(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                                   EntityManager entityManager, Map<String, Object> params) {
+        Page<E> page = this.criteriaSearch(entityClass, searchRequestDTO, entityManager, params, CountStrategy.NONE);
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
+    }
 
+    /**
+     * Runs the exact count of the search filters
+     */
+    default long countSearch(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                             EntityManager entityManager, Map<String, Object> params) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
         Root<E> countRoot = countQuery.from(entityClass);
-        Predicate countPredicate = this.buildPredicate(criteriaBuilder, countRoot, searchRequestDTO.getFilters(), params);
+        countQuery.select(criteriaBuilder.count(countRoot));
+        Predicate countPredicate = this.buildPredicate(criteriaBuilder, countRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
         if (countPredicate != null) {
             countQuery.where(countPredicate);
         }
 
-        Long count = entityManager.createQuery(countQuery).getSingleResult();
-        List<E> results = entityManager.createQuery(criteriaQuery).setFirstResult((int) pageRequest.getOffset())
-                .setMaxResults(pageRequest.getPageSize()).getResultList();
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
 
-        return new PageImpl<>(results, pageRequest, count);
+    /**
+     * Counts the matching rows up to {@link #getEstimatedCountBound()}, reading only their ids; a result equal to the
+     * bound means "at least" that many rows
+     */
+    default long boundedCount(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                              EntityManager entityManager, Map<String, Object> params) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> idQuery = criteriaBuilder.createQuery(Object.class);
+        Root<E> idRoot = idQuery.from(entityClass);
+        idQuery.select(idRoot.get("id"));
+        Predicate idPredicate = this.buildPredicate(criteriaBuilder, idRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
+        if (idPredicate != null) {
+            idQuery.where(idPredicate);
+        }
+
+        return entityManager.createQuery(idQuery)
+                .setMaxResults(this.getEstimatedCountBound())
+                .getResultList()
+                .size();
+    }
+
+    /**
+     * Maximum number of rows counted by the {@code ESTIMATED} count strategy on filtered searches
+     */
+    default int getEstimatedCountBound() {
+        return 1000;
+    }
+
+    /**
+     * Reads the row estimate kept by PostgreSQL statistics for the entity table; empty when never analyzed
+     */
+    default Optional<Long> estimateCount(Class<E> entityClass, EntityManager entityManager) {
+        EntityPersister persister = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            return Optional.empty();
+        }
+
+        Object estimate = entityManager.createNativeQuery(
+                        "select cast(c.reltuples as bigint) from pg_class c where c.oid = to_regclass(:tableName)")
+                .setParameter("tableName", entityPersister.getTableName())
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+
+        return Optional.ofNullable(estimate)
+                .map(value -> ((Number) value).longValue())
+                .filter(value -> value >= 0);
+    }
+
+    /**
+     * How long an exact count is reused by the {@code CACHED} count strategy
+     */
+    default Duration getCountCacheTtl() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Returns the cached keyset resolution of the requested sort, resolving it on the first call
+     */
+    private KeysetPlanCache.KeysetPlan getKeysetPlan(Class<E> entityClass, Sort sort) {
+        KeysetPlanCache.KeysetShape shape = KeysetPlanCache.KeysetShape.of(getClass(), entityClass, sort);
+
+        return KeysetPlanCache.get(shape, () -> {
+            List<Sort.Order> orders = List.copyOf(this.getKeysetOrders(sort));
+            return new KeysetPlanCache.KeysetPlan(orders, orders.stream().map(Sort.Order::getProperty).toList(), getSortSpec(orders));
+        });
+    }
+
+    /**
+     * Resolves enhanced sort orders and appends the id tie-break that makes the ordering total
+     */
+    default List<Sort.Order> getKeysetOrders(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>(this.enhanceSortForEntityFields(sort).toList());
+        Optional<Sort.Order> idOrder = orders.stream()
+                .filter(order -> BaseEntity_.ID.equals(order.getProperty()))
+                .findFirst();
+        orders.removeIf(order -> BaseEntity_.ID.equals(order.getProperty()));
+
+        Sort.Direction idDirection = idOrder.map(Sort.Order::getDirection)
+                .orElseGet(() -> orders.isEmpty() ? Sort.Direction.ASC : orders.getLast().getDirection());
+        orders.add(new Sort.Order(idDirection, BaseEntity_.ID));
+
+        return orders;
+    }
+
+    /**
+     * Builds the seek predicate {@code (c1, .., cn, id) > (v1, .., vn, id)} honouring each column direction
+     * and PostgreSQL null ordering (nulls last when ascending, nulls first when descending)
+     */
+    default Predicate keysetPredicate(CriteriaBuilder criteriaBuilder, List<Sort.Order> orders, List<Path<?>> paths,
+                                      KeysetCursor cursor) {
+        List<Predicate> disjunction = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+
+        for (int i = 0; i < orders.size(); i++) {
+            Path<?> path = paths.get(i);
+            Object value = cursor.getValue(i, path.getJavaType());
+
+            Predicate after = this.after(criteriaBuilder, path, value, orders.get(i).isAscending());
+            if (after != null) {
+                List<Predicate> branch = new ArrayList<>(equalities);
+                branch.add(after);
+                disjunction.add(criteriaBuilder.and(branch.toArray(Predicate[]::new)));
+            }
+
+            equalities.add(value == null ? criteriaBuilder.isNull(path) : criteriaBuilder.equal(path, value));
+        }
+
+        return disjunction.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : criteriaBuilder.or(disjunction.toArray(Predicate[]::new));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder criteriaBuilder, Path<?> path, Object value, boolean ascending) {
+        Expression<Comparable> expression = (Expression<Comparable>) path;
+
+        if (ascending) {
+            return value == null
+                    ? null
+                    : criteriaBuilder.or(criteriaBuilder.greaterThan(expression, (Comparable) value), criteriaBuilder.isNull(path));
+        }
+
+        return value == null
+                ? criteriaBuilder.isNotNull(path)
+                : criteriaBuilder.lessThan(expression, (Comparable) value);
+    }
+
+    private Predicate and(CriteriaBuilder criteriaBuilder, Predicate first, Predicate second) {
+        return first != null ? criteriaBuilder.and(first, second) : second;
+    }
+
+    private static String getSortSpec(List<Sort.Order> orders) {
+        return orders.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
     }
 
     default Page<E> criteriaSearchWithChildren(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
@@ -112,45 +438,72 @@ public interface CriteriaSearchRepository<E extends IEntity> {
 
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 
-        CriteriaQuery<Long> idQuery = criteriaBuilder.createQuery(Long.class);
-        Root<E> entityIdRoot = idQuery.from(entityClass);
+        List<Long> entityIds;
+        Long count;
+        if (getChildrenPagingMode() == ChildrenPagingMode.DISTINCT_PARENT) {
+            entityIds = this.findDistinctParentIdPage(entityClass, searchRequestDTO, entityManager, params, sortBy, sortDirection, pageRequest);
+            count = this.countDistinctParents(entityClass, searchRequestDTO, entityManager, params);
+        } else {
+            CriteriaQuery<Long> idQuery = criteriaBuilder.createQuery(Long.class);
+            Root<E> entityIdRoot = idQuery.from(entityClass);
+
+            Predicate predicate = this.buildPredicate(criteriaBuilder, entityIdRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
+
+            Optional.ofNullable(sortBy)
+                    .filter(sb -> sortDirection != null && StringUtils.isNoneBlank(sb, sortDirection))
+                    .map(sb -> getSortPath(entityManager, entityIdRoot, sb))
+                    .ifPresent(sortPath -> idQuery.orderBy(
+                            getOrder(criteriaBuilder, sortDirection, sortPath), // sort by request param
+                            getOrder(criteriaBuilder, sortDirection, entityIdRoot.get(BaseEntity_.CREATE_DATE)) // in case of tie, sort by Parent create date
+                    ));
+
+            // Applies predicate to ID query or selects all IDs
+            Optional.ofNullable(predicate)
+                    .ifPresentOrElse(
+                            p -> idQuery.select(entityIdRoot.get(BaseEntity_.ID)).distinct(true).where(p),
+                            () -> idQuery.select(entityIdRoot.get(BaseEntity_.ID)).distinct(true)
+                    );
+
+            // Executes ID query; applies pagination; returns distinct IDs
+            entityIds = entityManager.createQuery(idQuery)
+                    .setFirstResult(0)
+                    .setMaxResults((int) ((pageRequest.getOffset() + pageRequest.getPageSize()) * getMaxNumberOfChildPerParent()))
+                    .getResultList().stream().distinct()
+                    .skip(pageRequest.getOffset())
+                    .limit(pageRequest.getPageSize())
+                    .toList();
+
+
+            idQuery.select(criteriaBuilder.countDistinct(entityIdRoot));
+            count = entityManager.createQuery(idQuery).getSingleResult();
+        }
 
-        Predicate predicate = this.buildPredicate(criteriaBuilder, entityIdRoot, searchRequestDTO.getFilters(), params);
-
-        Optional.ofNullable(sortBy)
-                .filter(sb -> sortDirection != null && StringUtils.isNoneBlank(sb, sortDirection))
-                .map(sb -> getSortPath(entityManager, entityIdRoot, sb))
-                .ifPresent(sortPath -> idQuery.orderBy(
-                        getOrder(criteriaBuilder, sortDirection, sortPath), // sort by request param
-                        getOrder(criteriaBuilder, sortDirection, entityIdRoot.get(BaseEntity_.CREATE_DATE)) // in case of tie, sort by Parent create date
-                ));
-
-        // Applies predicate to ID query or selects all IDs
-        Optional.ofNullable(predicate)
-                .ifPresentOrElse(
-                        p -> idQuery.select(entityIdRoot.get(BaseEntity_.ID)).distinct(true).where(p),
-                        () -> idQuery.select(entityIdRoot.get(BaseEntity_.ID)).distinct(true)
-                );
-
-        // Executes ID query; applies pagination; returns distinct IDs
-        var entityIds = entityManager.createQuery(idQuery)
-                .setFirstResult(0)
-                .setMaxResults((int) ((pageRequest.getOffset() + pageRequest.getPageSize()) * getMaxNumberOfChildPerParent()))
-                .getResultList().stream().distinct()
-                .skip(pageRequest.getOffset())
-                .limit(pageRequest.getPageSize())
-                .toList();
+        if (entityIds.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageRequest, count);
+        }
 
+        List<E> results = this.findAllByIds(entityClass, entityIds, entityManager);
 
-        idQuery.select(criteriaBuilder.countDistinct(entityIdRoot));
-        Long count = entityManager.createQuery(idQuery).getSingleResult();
+        return new PageImpl<>(results, pageRequest, count);
+
+    }
 
+    /**
+     * Loads the entities of the given ids keeping the order of the ids. When the repository declares a search
+     * entity graph it is applied as fetch graph, so the needed children are loaded in the same query.
+     */
+    default List<E> findAllByIds(Class<E> entityClass, List<Long> entityIds, EntityManager entityManager) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<E> entityQuery = criteriaBuilder.createQuery(entityClass);
         Root<E> entityRoot = entityQuery.from(entityClass);
 
-        entityQuery.select(entityRoot).where(entityRoot.in(entityIds)).distinct(true);
+        Predicate idPredicate = this.getInListStrategy().in(criteriaBuilder, entityRoot.get("id"), entityIds, Long.class);
+        entityQuery.select(entityRoot).where(idPredicate).distinct(true);
         TypedQuery<E> typedQuery = entityManager.createQuery(entityQuery);
 
+        Optional.ofNullable(this.getSearchEntityGraph(entityManager))
+                .ifPresent(entityGraph -> typedQuery.setHint(FETCH_GRAPH_HINT, entityGraph));
+
         List<E> results = typedQuery.getResultList();
 
         Map<Long, Integer> idIndexMap = IntStream.range(0, entityIds.size())
@@ -159,22 +512,104 @@ public interface CriteriaSearchRepository<E extends IEntity> {
 
         results.sort(Comparator.comparing(entity -> idIndexMap.getOrDefault(entity.getId(), Integer.MAX_VALUE)));
 
-        return new PageImpl<>(results, pageRequest, count);
+        return results;
+    }
+
+    /**
+     * How id lists are bound when hydrating the parents of a search
+     */
+    default InListStrategy getInListStrategy() {
+        return InListStrategy.AUTO;
+    }
+
+    /**
+     * Entity graph applied when hydrating the parents of a search; by default the named graph returned by
+     * {@link #getSearchEntityGraphName()}, or none
+     */
+    default EntityGraph<?> getSearchEntityGraph(EntityManager entityManager) {
+        return Optional.ofNullable(this.getSearchEntityGraphName())
+                .filter(StringUtils::isNotBlank)
+                .<EntityGraph<?>>map(entityManager::getEntityGraph)
+                .orElse(null);
+    }
+
+    /**
+     * Name of the {@link jakarta.persistence.NamedEntityGraph} to fetch with the search results.
+     * Override to load the children needed by the DTO mapping and avoid N+1 lazy loads. More than one
+     * collection in the same graph must be mapped as {@code Set} to be join fetched together.
+     */
+    default String getSearchEntityGraphName() {
+        return null;
+    }
+
+    /**
+     * Selects the requested page of parent ids in the database, grouping the joined child rows by parent id.
+     * Each parent is ordered by the lowest (asc) or highest (desc) value of the sort key among its rows.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default List<Long> findDistinctParentIdPage(Class<E> entityClass, SearchRequestDTO searchRequestDTO, EntityManager entityManager,
+                                                Map<String, Object> params, String sortBy, String sortDirection, PageRequest pageRequest) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> idQuery = criteriaBuilder.createQuery(Long.class);
+        Root<E> entityIdRoot = idQuery.from(entityClass);
+        Path<Long> idPath = entityIdRoot.get(BaseEntity_.ID);
+
+        Predicate predicate = this.buildPredicate(criteriaBuilder, entityIdRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
+        idQuery.select(idPath).groupBy(idPath);
+        if (predicate != null) {
+            idQuery.where(predicate);
+        }
 
+        boolean ascending = !StringUtils.isNoneBlank(sortBy, sortDirection) || "asc".equalsIgnoreCase(sortDirection);
+        List<Order> orders = new ArrayList<>();
+        if (StringUtils.isNoneBlank(sortBy, sortDirection)) {
+            Expression<Comparable> sortPath = (Expression<Comparable>) (Expression<?>) getSortPath(entityManager, entityIdRoot, sortBy);
+            Expression<Comparable> createDatePath = entityIdRoot.get(BaseEntity_.CREATE_DATE);
+
+            // sort by request param; in case of tie, sort by Parent create date
+            orders.add(ascending ? criteriaBuilder.asc(criteriaBuilder.least(sortPath)) : criteriaBuilder.desc(criteriaBuilder.greatest(sortPath)));
+            orders.add(ascending ? criteriaBuilder.asc(criteriaBuilder.least(createDatePath)) : criteriaBuilder.desc(criteriaBuilder.greatest(createDatePath)));
+        }
+        orders.add(ascending ? criteriaBuilder.asc(idPath) : criteriaBuilder.desc(idPath));
+        idQuery.orderBy(orders);
+
+        return entityManager.createQuery(idQuery)
+                .setFirstResult((int) pageRequest.getOffset())
+                .setMaxResults(pageRequest.getPageSize())
+                .getResultList();
+    }
+
+    /**
+     * Counts the distinct parents matching the search filters
+     */
+    default Long countDistinctParents(Class<E> entityClass, SearchRequestDTO searchRequestDTO,
+                                      EntityManager entityManager, Map<String, Object> params) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+        Root<E> countRoot = countQuery.from(entityClass);
+        countQuery.select(criteriaBuilder.countDistinct(countRoot));
+
+        Predicate predicate = this.buildPredicate(criteriaBuilder, countRoot, this.bindFilters(searchRequestDTO.getFilters()), params);
+        if (predicate != null) {
+            countQuery.where(predicate);
+        }
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    /**
+     * Selects how {@link #criteriaSearchWithChildren} resolves the page of parent ids
+     */
+    default ChildrenPagingMode getChildrenPagingMode() {
+        return ChildrenPagingMode.OVER_FETCH;
     }
 
+    /**
+     * Resolves the property path through the precomputed metamodel chains; unknown properties are rejected
+     */
+    @SuppressWarnings("unchecked")
     default Path<E> getPath(Root<E> root, String property) {
-        // Builds nested path from property via stream reduction
-        return Optional.of(property)
-                .filter(p -> p.contains("."))
-                .map(p -> p.split("\\."))
-                .map(parts -> Arrays.stream(parts)
-                        .reduce(
-                                (Path<E>) root,
-                                (path, part) -> path.get(part),
-                                (p1, p2) -> p2
-                        ))
-                .orElseGet(() -> root.get(property));
+        return (Path<E>) EntityPathRegistry.resolve(root, property, this.sortPropertyMapping().getJoinType(property));
     }
 
     default String getDefaultSortBy() {
@@ -203,8 +638,6 @@ public interface CriteriaSearchRepository<E extends IEntity> {
     }
 
     default <B extends BaseEntity> boolean isFieldFrom(EntityType<B> entity, String fieldName) {
-        return entity.getAttributes().stream()
-                .map(Attribute::getName)
-                .anyMatch(name -> name.equals(fieldName));
+        return EntityPathRegistry.hasAttribute(entity, fieldName);
     }
 }
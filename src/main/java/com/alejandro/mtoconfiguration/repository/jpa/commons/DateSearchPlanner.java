@@ -0,0 +1,109 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Date;
+import java.util.regex.Pattern;
+
+/**
+ * Interprets a free-text date search as the half-open range {@code [start, end)} it denotes, so date columns can be
+ * filtered with {@code col >= start AND col < end} instead of formatting every row.
+ * <p>
+ * Supported inputs: {@code yyyy}, {@code MM/yyyy}, {@code dd/MM/yyyy} and {@code dd/MM/yyyy HH:mm}.
+ */
+public final class DateSearchPlanner {
+
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+    private static final Pattern MONTH = Pattern.compile("\\d{1,2}/\\d{4}");
+    private static final Pattern DAY = Pattern.compile("\\d{1,2}/\\d{1,2}/\\d{4}");
+    private static final Pattern MINUTE = Pattern.compile("\\d{1,2}/\\d{1,2}/\\d{4} \\d{1,2}:\\d{2}");
+
+    private static final DateTimeFormatter MONTH_FORMATTER = strict("M/uuuu");
+    private static final DateTimeFormatter DAY_FORMATTER = strict("d/M/uuuu");
+    private static final DateTimeFormatter MINUTE_FORMATTER = strict("d/M/uuuu H:mm");
+
+    private DateSearchPlanner() {
+    }
+
+    /**
+     * Returns the range matched by the search value, or null when it is not a recognised date
+     */
+    public static DateRange plan(String searchValue) {
+        String value = StringUtils.trimToNull(searchValue);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (YEAR.matcher(value).matches()) {
+                LocalDateTime start = Year.parse(value).atDay(1).atStartOfDay();
+                return new DateRange(start, start.plusYears(1));
+            }
+            if (MONTH.matcher(value).matches()) {
+                LocalDateTime start = YearMonth.parse(value, MONTH_FORMATTER).atDay(1).atStartOfDay();
+                return new DateRange(start, start.plusMonths(1));
+            }
+            if (DAY.matcher(value).matches()) {
+                LocalDateTime start = LocalDate.parse(value, DAY_FORMATTER).atStartOfDay();
+                return new DateRange(start, start.plusDays(1));
+            }
+            if (MINUTE.matcher(value).matches()) {
+                LocalDateTime start = LocalDateTime.parse(value, MINUTE_FORMATTER);
+                return new DateRange(start, start.plusMinutes(1));
+            }
+        } catch (DateTimeParseException e) {
+            // Well-formed but impossible dates (31/02/2024) are not a date search
+            return null;
+        }
+
+        return null;
+    }
+
+    private static DateTimeFormatter strict(String pattern) {
+        return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
+    }
+
+    /**
+     * Half-open local date-time range; bounds are converted to the java type of the column being filtered
+     */
+    public record DateRange(LocalDateTime start, LocalDateTime end) {
+
+        public Comparable<?> start(Class<?> columnType) {
+            return convert(start, columnType);
+        }
+
+        /**
+         * Exclusive upper bound; a LocalDate column rounds it up to the next whole day
+         */
+        public Comparable<?> end(Class<?> columnType) {
+            if (LocalDate.class.equals(columnType) && !end.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+                return end.toLocalDate().plusDays(1);
+            }
+            return convert(end, columnType);
+        }
+
+        private static Comparable<?> convert(LocalDateTime value, Class<?> columnType) {
+            if (LocalDate.class.equals(columnType)) {
+                return value.toLocalDate();
+            }
+            if (OffsetDateTime.class.equals(columnType)) {
+                return value.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+            }
+            if (ZonedDateTime.class.equals(columnType)) {
+                return value.atZone(ZoneId.systemDefault());
+            }
+            if (Instant.class.equals(columnType)) {
+                return value.atZone(ZoneId.systemDefault()).toInstant();
+            }
+            if (Date.class.isAssignableFrom(columnType)) {
+                return Date.from(value.atZone(ZoneId.systemDefault()).toInstant());
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+import com.alejandro.mtoconfiguration.core.exception.StacklessRailwayInfrastructureException;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the dotted property paths of every managed type, built once per class from the JPA metamodel.
+ * <p>
+ * Each path ({@code "pole.type.code"}) is resolved to its chain of singular attributes, so sort properties are
+ * resolved without splitting strings or scanning attributes, and unknown properties are rejected while the
+ * criteria is being built, before any SQL reaches the database. Associations already joined by the search
+ * predicate are reused instead of adding another implicit join.
+ */
+public final class EntityPathRegistry {
+
+    // Max number of attributes of a navigable path (e.g. parent.child.attribute)
+    private static final int MAX_DEPTH = 4;
+
+    private static final Map<Class<?>, ManagedTypePaths> PATHS = new ConcurrentHashMap<>();
+
+    private EntityPathRegistry() {
+    }
+
+    /**
+     * Builds the paths of the given managed type if not registered yet
+     */
+    public static void register(ManagedType<?> managedType) {
+        paths(managedType);
+    }
+
+    /**
+     * Resolves a dotted property against the root, reusing its existing joins
+     */
+    public static Path<?> resolve(Root<?> root, String property) {
+        return resolve(root, property, null);
+    }
+
+    /**
+     * Resolves a dotted property against the root, reusing its existing joins or, when a join type is given,
+     * joining the associations of the path that are not joined yet
+     */
+    public static Path<?> resolve(Root<?> root, String property, JoinType joinType) {
+        List<Attribute<?, ?>> chain = paths(root.getModel()).chains().get(property);
+        if (chain == null) {
+            throw new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE003.getCode(),
+                    RailwayInfrastructureExceptions.RIE003.getMessage() + ": " + property);
+        }
+
+        From<?, ?> from = root;
+        Path<?> path = root;
+        for (int i = 0; i < chain.size(); i++) {
+            Attribute<?, ?> attribute = chain.get(i);
+            boolean last = i == chain.size() - 1;
+
+            Join<?, ?> join = !last && from != null && attribute.isAssociation() ? findJoin(from, attribute.getName()) : null;
+            if (join == null && !last && from != null && attribute.isAssociation() && joinType != null) {
+                join = from.join(attribute.getName(), joinType);
+            }
+            if (join != null) {
+                from = join;
+                path = join;
+            } else {
+                from = null;
+                path = path.get(attribute.getName());
+            }
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns true when the managed type declares (or inherits) an attribute with the given name
+     */
+    public static boolean hasAttribute(ManagedType<?> managedType, String attributeName) {
+        return paths(managedType).attributeNames().contains(attributeName);
+    }
+
+    private static Join<?, ?> findJoin(From<?, ?> from, String attributeName) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (attributeName.equals(join.getAttribute().getName())) {
+                return join;
+            }
+        }
+        return null;
+    }
+
+    private static ManagedTypePaths paths(ManagedType<?> managedType) {
+        return PATHS.computeIfAbsent(managedType.getJavaType(), type -> build(managedType));
+    }
+
+    private static ManagedTypePaths build(ManagedType<?> managedType) {
+        Map<String, List<Attribute<?, ?>>> chains = new HashMap<>();
+        collect(managedType, "", new ArrayList<>(), chains);
+
+        Set<String> attributeNames = new HashSet<>();
+        managedType.getAttributes().forEach(attribute -> attributeNames.add(attribute.getName()));
+
+        return new ManagedTypePaths(Map.copyOf(chains), Set.copyOf(attributeNames));
+    }
+
+    private static void collect(ManagedType<?> managedType, String prefix, List<Attribute<?, ?>> parents,
+                                Map<String, List<Attribute<?, ?>>> chains) {
+        for (Attribute<?, ?> attribute : managedType.getAttributes()) {
+            if (!(attribute instanceof SingularAttribute<?, ?> singularAttribute)) {
+                continue;
+            }
+
+            List<Attribute<?, ?>> chain = new ArrayList<>(parents);
+            chain.add(attribute);
+            String property = prefix + attribute.getName();
+            chains.put(property, List.copyOf(chain));
+
+            if (chain.size() < MAX_DEPTH && singularAttribute.getType() instanceof ManagedType<?> nestedType) {
+                collect(nestedType, property + ".", chain, chains);
+            }
+        }
+    }
+
+    private record ManagedTypePaths(Map<String, List<Attribute<?, ?>>> chains, Set<String> attributeNames) {
+    }
+}
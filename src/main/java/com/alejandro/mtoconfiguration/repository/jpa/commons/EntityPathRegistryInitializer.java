@@ -0,0 +1,26 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the property paths of every JPA entity at startup, so the first searches do not pay for it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityPathRegistryInitializer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerEntityPaths() {
+        var entities = entityManagerFactory.getMetamodel().getEntities();
+        entities.forEach(EntityPathRegistry::register);
+        log.info("Entity path registry initialized for {} entities", entities.size());
+    }
+}
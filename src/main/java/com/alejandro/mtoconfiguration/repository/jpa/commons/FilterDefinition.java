@@ -0,0 +1,16 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import java.util.Objects;
+
+/**
+ * Declared filter of a search: request filter name, entity attribute, java type of the value and operator
+ */
+public record FilterDefinition(String name, String attribute, Class<?> type, FilterOperator operator) {
+
+    public FilterDefinition {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(attribute, "attribute");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(operator, "operator");
+    }
+}
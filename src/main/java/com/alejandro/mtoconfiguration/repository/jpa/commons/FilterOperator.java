@@ -0,0 +1,27 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+/**
+ * Comparison applied by a {@link FilterDefinition} between the entity attribute and the bound filter value
+ */
+public enum FilterOperator {
+    EQ,
+    NE,
+    LIKE,
+    NOT_LIKE,
+    STARTS_WITH,
+    ENDS_WITH,
+    IN,
+    NOT_IN,
+    // attribute >= value
+    FROM,
+    // attribute <= value
+    TO,
+    // attribute is true when the filter value is true
+    IS_TRUE,
+    // attribute is false when the filter value is false
+    IS_FALSE;
+
+    public boolean isMultiValued() {
+        return this == IN || this == NOT_IN;
+    }
+}
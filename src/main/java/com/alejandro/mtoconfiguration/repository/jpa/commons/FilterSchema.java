@@ -0,0 +1,91 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable set of the filters a search accepts. The raw request map is bound once per request into
+ * {@link BoundFilters}, with every value already converted to its declared type, so {@link PredicateBuilder}
+ * does not parse or inspect loosely typed values per predicate.
+ * <p>
+ * A repository declares it once through {@code CriteriaSearchRepository#getFilterSchema()}; it is memoized per
+ * repository class.
+ * <pre>
+ * FilterSchema.builder()
+ *         .filter("code", String.class, FilterOperator.LIKE)
+ *         .filter("typeIds", "typeId", Long.class, FilterOperator.IN)
+ *         .filter("createDateFrom", "createDate", LocalDateTime.class, FilterOperator.FROM)
+ *         .build();
+ * </pre>
+ * Undeclared filters are carried over untouched, and the free-text {@code search}/{@code searchText} filters as
+ * strings, so a partial schema does not hide filters the repository still reads by name.
+ */
+public final class FilterSchema {
+
+    public static final FilterSchema EMPTY = new FilterSchema(Map.of());
+
+    private static final Map<Class<?>, FilterSchema> BY_REPOSITORY = new ConcurrentHashMap<>();
+
+    private final Map<String, FilterDefinition> definitions;
+
+    private FilterSchema(Map<String, FilterDefinition> definitions) {
+        this.definitions = definitions;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the memoized schema of the repository class, resolving it with the supplier on the first call
+     */
+    static FilterSchema forRepository(Class<?> repositoryClass, Supplier<FilterSchema> schemaSupplier) {
+        return BY_REPOSITORY.computeIfAbsent(repositoryClass, type -> Objects.requireNonNullElse(schemaSupplier.get(), EMPTY));
+    }
+
+    public boolean isEmpty() {
+        return definitions.isEmpty();
+    }
+
+    public boolean contains(String name) {
+        return definitions.containsKey(name);
+    }
+
+    public Collection<FilterDefinition> getDefinitions() {
+        return definitions.values();
+    }
+
+    /**
+     * Converts the raw request filters; undeclared filters are passed through and invalid values are rejected
+     */
+    public BoundFilters bind(Map<String, Object> filters) {
+        if (filters instanceof BoundFilters boundFilters) {
+            return boundFilters;
+        }
+        return BoundFilters.bind(this, filters);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, FilterDefinition> definitions = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder filter(String name, Class<?> type, FilterOperator operator) {
+            return filter(name, name, type, operator);
+        }
+
+        public Builder filter(String name, String attribute, Class<?> type, FilterOperator operator) {
+            definitions.put(name, new FilterDefinition(name, attribute, type, operator));
+            return this;
+        }
+
+        public FilterSchema build() {
+            return definitions.isEmpty()
+                    ? EMPTY
+                    : new FilterSchema(Collections.unmodifiableMap(new LinkedHashMap<>(definitions)));
+        }
+    }
+}
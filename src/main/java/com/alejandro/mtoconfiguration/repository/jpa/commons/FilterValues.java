@@ -0,0 +1,117 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+import com.alejandro.mtoconfiguration.core.exception.RailwayInfrastructureException;
+import com.alejandro.mtoconfiguration.core.exception.StacklessRailwayInfrastructureException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Converts raw request filter values (JSON strings, numbers, booleans and lists) to the declared filter type
+ */
+final class FilterValues {
+
+    private FilterValues() {
+    }
+
+    /**
+     * Converts a single value; blank strings are treated as absent and return null
+     */
+    static Object convert(FilterDefinition definition, Object raw) {
+        if (raw == null || raw instanceof String text && StringUtils.isBlank(text)) {
+            return null;
+        }
+
+        Class<?> type = definition.type();
+        if (type.isInstance(raw)) {
+            return raw;
+        }
+
+        try {
+            return convert(raw, type);
+        } catch (RuntimeException e) {
+            throw invalid(definition);
+        }
+    }
+
+    /**
+     * Converts a list, array or comma separated string to an immutable list of the declared type
+     */
+    static List<Object> convertAll(FilterDefinition definition, Object raw) {
+        Collection<?> rawValues = switch (raw) {
+            case null -> List.of();
+            case Collection<?> collection -> collection;
+            case Object[] array -> Arrays.asList(array);
+            case String text -> Arrays.asList(StringUtils.split(text, ','));
+            default -> List.of(raw);
+        };
+
+        List<Object> values = new ArrayList<>(rawValues.size());
+        for (Object rawValue : rawValues) {
+            Object value = convert(definition, rawValue instanceof String text ? text.trim() : rawValue);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Typed array of the values, as bound to a PostgreSQL array parameter
+     */
+    static Object[] toArray(List<?> values, Class<?> type) {
+        return values.toArray((Object[]) Array.newInstance(type, values.size()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(Object raw, Class<?> type) {
+        String text = raw.toString().trim();
+
+        if (String.class.equals(type)) {
+            return text;
+        }
+        if (Long.class.equals(type)) {
+            return raw instanceof Number number ? number.longValue() : Long.valueOf(text);
+        }
+        if (Integer.class.equals(type)) {
+            return raw instanceof Number number ? number.intValue() : Integer.valueOf(text);
+        }
+        if (Boolean.class.equals(type)) {
+            return Boolean.valueOf(text);
+        }
+        if (BigDecimal.class.equals(type)) {
+            return new BigDecimal(text);
+        }
+        if (LocalDate.class.equals(type)) {
+            return LocalDate.parse(text);
+        }
+        if (LocalDateTime.class.equals(type)) {
+            return LocalDateTime.parse(text);
+        }
+        if (OffsetDateTime.class.equals(type)) {
+            return OffsetDateTime.parse(text);
+        }
+        if (Date.class.equals(type)) {
+            return Date.from(OffsetDateTime.parse(text).toInstant());
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<Enum>) type, text);
+        }
+        return Objects.requireNonNull(DefaultConversionService.getSharedInstance().convert(raw, type));
+    }
+
+    /**
+     * Invalid client input is an expected outcome: the conversion failure is not kept and no stack is captured
+     */
+    private static RailwayInfrastructureException invalid(FilterDefinition definition) {
+        return new StacklessRailwayInfrastructureException(
+                RailwayInfrastructureExceptions.RIE004.getCode(),
+                RailwayInfrastructureExceptions.RIE004.getMessage() + ": " + definition.name());
+    }
+}
@@ -0,0 +1,49 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.util.List;
+
+/**
+ * How an IN list is sent to the database.
+ * <ul>
+ *     <li>EXPAND: one bind variable per value; Hibernate pads the count to the next power of two
+ *     ({@code hibernate.query.in_clause_parameter_padding}), so sizes share a few statement shapes</li>
+ *     <li>ARRAY: a single typed array parameter, {@code col = any(?)}, whatever the number of values</li>
+ *     <li>AUTO: EXPAND up to {@link #ARRAY_THRESHOLD} values, ARRAY above</li>
+ * </ul>
+ */
+public enum InListStrategy {
+    EXPAND,
+    ARRAY,
+    AUTO;
+
+    public static final int ARRAY_THRESHOLD = 32;
+
+    /**
+     * Builds the in predicate for the values, already converted to the java type of the column
+     */
+    public Predicate in(CriteriaBuilder criteriaBuilder, Expression<?> column, List<?> values, Class<?> type) {
+        if (useArray(values.size()) && criteriaBuilder instanceof HibernateCriteriaBuilder hibernateCriteriaBuilder) {
+            return criteriaBuilder.isTrue(criteriaBuilder.function(
+                    PostgreSQLSearchFunctionContributor.ANY_MATCH,
+                    Boolean.class,
+                    column,
+                    hibernateCriteriaBuilder.value(FilterValues.toArray(values, type))
+            ));
+        }
+
+        return column.in(values);
+    }
+
+    private boolean useArray(int size) {
+        return switch (this) {
+            case EXPAND -> false;
+            case ARRAY -> true;
+            case AUTO -> size > ARRAY_THRESHOLD;
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+import com.alejandro.mtoconfiguration.core.exception.StacklessRailwayInfrastructureException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque continuation cursor for keyset (seek) pagination.
+ * <p>
+ * A cursor holds the values of the sort columns of the last row returned, followed by its {@code id}, and
+ * the sort specification it was produced for. It is serialized as dot-separated Base64 (URL safe) segments,
+ * so clients must treat it as an opaque token and send it back untouched in {@code PageableDTO.cursor}.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = ".";
+    private static final String NULL_VALUE = "~";
+
+    private final String sortSpec;
+    private final List<String> values;
+
+    private KeysetCursor(String sortSpec, List<String> values) {
+        this.sortSpec = sortSpec;
+        this.values = values;
+    }
+
+    /**
+     * Builds the cursor pointing after the given entity, reading every sort property through its getters
+     */
+    public static String encode(Object entity, List<String> properties, String sortSpec) {
+        BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+
+        StringBuilder builder = new StringBuilder(encodeSegment(sortSpec));
+        for (String property : properties) {
+            Object value = beanWrapper.getPropertyValue(property);
+            builder.append(SEPARATOR).append(value == null ? NULL_VALUE : encodeSegment(toRaw(value)));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Decodes a cursor; returns null when blank and fails when it was built for another sort specification
+     */
+    public static KeysetCursor decode(String cursor, String expectedSortSpec, int expectedValues) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+
+        try {
+            String[] segments = StringUtils.splitPreserveAllTokens(cursor, SEPARATOR);
+            String sortSpec = decodeSegment(segments[0]);
+
+            if (!Objects.equals(sortSpec, expectedSortSpec) || segments.length - 1 != expectedValues) {
+                throw new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE002);
+            }
+
+            List<String> values = new ArrayList<>(segments.length - 1);
+            for (int i = 1; i < segments.length; i++) {
+                values.add(NULL_VALUE.equals(segments[i]) ? null : decodeSegment(segments[i]));
+            }
+
+            return new KeysetCursor(sortSpec, values);
+        } catch (IllegalArgumentException e) {
+            throw new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE002);
+        }
+    }
+
+    public String getSortSpec() {
+        return sortSpec;
+    }
+
+    /**
+     * Returns the cursor value at the given position converted to the java type of the sort column; a value that
+     * does not convert means the cursor was tampered with
+     */
+    public Object getValue(int index, Class<?> type) {
+        String raw = values.get(index);
+        if (raw == null) {
+            return null;
+        }
+
+        try {
+            return fromRaw(raw, type);
+        } catch (IllegalArgumentException | DateTimeException | ConversionException e) {
+            throw new StacklessRailwayInfrastructureException(RailwayInfrastructureExceptions.RIE002);
+        }
+    }
+
+    private static String toRaw(Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        if (value instanceof java.util.Date date) {
+            return String.valueOf(date.getTime());
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object fromRaw(String raw, Class<?> type) {
+        if (String.class.equals(type)) {
+            return raw;
+        }
+        if (Long.class.equals(type) || long.class.equals(type)) {
+            return Long.valueOf(raw);
+        }
+        if (Integer.class.equals(type) || int.class.equals(type)) {
+            return Integer.valueOf(raw);
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return Boolean.valueOf(raw);
+        }
+        if (BigDecimal.class.equals(type)) {
+            return new BigDecimal(raw);
+        }
+        if (BigInteger.class.equals(type)) {
+            return new BigInteger(raw);
+        }
+        if (LocalDateTime.class.equals(type)) {
+            return LocalDateTime.parse(raw);
+        }
+        if (LocalDate.class.equals(type)) {
+            return LocalDate.parse(raw);
+        }
+        if (LocalTime.class.equals(type)) {
+            return LocalTime.parse(raw);
+        }
+        if (OffsetDateTime.class.equals(type)) {
+            return OffsetDateTime.parse(raw);
+        }
+        if (Instant.class.equals(type)) {
+            return Instant.parse(raw);
+        }
+        if (UUID.class.equals(type)) {
+            return UUID.fromString(raw);
+        }
+        if (java.util.Date.class.equals(type)) {
+            return new java.util.Date(Long.parseLong(raw));
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<Enum>) type, raw);
+        }
+        return DefaultConversionService.getSharedInstance().convert(raw, type);
+    }
+
+    private static String encodeSegment(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeSegment(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
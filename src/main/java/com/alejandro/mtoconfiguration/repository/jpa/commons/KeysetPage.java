@@ -0,0 +1,28 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Page that also carries the keyset cursor to request the following page. The cursor is null when
+ * the current page is the last one.
+ */
+public class KeysetPage<E> extends PageImpl<E> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String nextCursor;
+
+    public KeysetPage(List<E> content, Pageable pageable, long total, String nextCursor) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
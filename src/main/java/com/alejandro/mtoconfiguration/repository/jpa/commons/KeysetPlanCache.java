@@ -0,0 +1,70 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the keyset resolution of a requested sort: the enhanced orders with the id tie-break, their
+ * properties and the sort specification embedded in cursors. It depends only on the repository (through its
+ * {@link SortPropertyMapping}), the entity and the requested sort, which is what it is keyed on.
+ * <p>
+ * The criteria tree itself is not cached: {@code buildPredicate} receives the filter values and may embed them
+ * anywhere in the tree, so it is rebuilt and translated per call.
+ * <p>
+ * Bounded LRU; hits and misses are published as the {@code mto.search.keyset.cache} counter.
+ */
+final class KeysetPlanCache {
+
+    private static final int MAX_ENTRIES = 2048;
+
+    private static final Map<KeysetShape, KeysetPlan> PLANS = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<KeysetShape, KeysetPlan> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    private static final Counter HITS = Metrics.counter("mto.search.keyset.cache", "result", "hit");
+    private static final Counter MISSES = Metrics.counter("mto.search.keyset.cache", "result", "miss");
+
+    private KeysetPlanCache() {
+    }
+
+    static KeysetPlan get(KeysetShape shape, Supplier<KeysetPlan> planSupplier) {
+        KeysetPlan plan = PLANS.get(shape);
+        if (plan != null) {
+            HITS.increment();
+            return plan;
+        }
+
+        MISSES.increment();
+        plan = planSupplier.get();
+        PLANS.put(shape, plan);
+
+        return plan;
+    }
+
+    /**
+     * Identifies searches resolving to the same keyset orders
+     */
+    record KeysetShape(Class<?> repositoryClass, Class<?> entityClass, List<Sort.Order> sort) {
+
+        static KeysetShape of(Class<?> repositoryClass, Class<?> entityClass, Sort sort) {
+            return new KeysetShape(repositoryClass, entityClass, sort.toList());
+        }
+    }
+
+    /**
+     * Keyset resolution of a requested sort
+     */
+    record KeysetPlan(List<Sort.Order> orders, List<String> properties, String sortSpec) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL search functions used by {@link PredicateBuilder}. Loaded by Hibernate through
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class PostgreSQLSearchFunctionContributor implements FunctionContributor {
+
+    public static final String FULL_TEXT_MATCH = "fts_match";
+    public static final String ANY_MATCH = "any_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        // fts_match(searchVector, config, value) -> searchVector @@ plainto_tsquery(config, value)
+        functionContributions.getFunctionRegistry()
+                .registerPattern(FULL_TEXT_MATCH, "(?1 @@ plainto_tsquery(cast(?2 as regconfig), ?3))", booleanType);
+
+        // any_match(column, array) -> column = any(array), a single bind variable whatever the number of values
+        functionContributions.getFunctionRegistry()
+                .registerPattern(ANY_MATCH, "(?1 = any(?2))", booleanType);
+    }
+}
@@ -2,18 +2,19 @@ package com.alejandro.mtoconfiguration.repository.jpa.commons;
 
 import com.alejandro.mtoconfiguration.entity.commons.BaseEntity;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Predicate;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,15 +22,41 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
 
     private static final String SEARCH = "search";
     private static final String SEARCH_TEXT = "searchText";
+    private static final String DEFAULT_SEARCH_VECTOR = "searchVector";
 
     private final CriteriaBuilder criteriaBuilder;
     private final From<E1, E2> from;
     private final Map<String, Object> filters;
+    private final SearchMode searchMode;
+    private final String searchVectorAttribute;
+    private InListStrategy inListStrategy = InListStrategy.AUTO;
 
     public PredicateBuilder(CriteriaBuilder criteriaBuilder, From<E1, E2> from, Map<String, Object> filters) {
+        this(criteriaBuilder, from, filters, SearchMode.LIKE);
+    }
+
+    public PredicateBuilder(CriteriaBuilder criteriaBuilder, From<E1, E2> from, Map<String, Object> filters, SearchMode searchMode) {
+        this(criteriaBuilder, from, filters, searchMode, DEFAULT_SEARCH_VECTOR);
+    }
+
+    /**
+     * Builder whose free-text predicates use the given search mode; FULL_TEXT matches against the tsvector attribute
+     */
+    public PredicateBuilder(CriteriaBuilder criteriaBuilder, From<E1, E2> from, Map<String, Object> filters,
+                            SearchMode searchMode, String searchVectorAttribute) {
         this.criteriaBuilder = criteriaBuilder;
         this.from = from;
         this.filters = filters;
+        this.searchMode = searchMode != null ? searchMode : SearchMode.LIKE;
+        this.searchVectorAttribute = StringUtils.defaultIfBlank(searchVectorAttribute, DEFAULT_SEARCH_VECTOR);
+    }
+
+    /**
+     * Sets how in/notIn lists are bound (AUTO by default)
+     */
+    public PredicateBuilder<E1, E2> inListStrategy(InListStrategy inListStrategy) {
+        this.inListStrategy = inListStrategy != null ? inListStrategy : InListStrategy.AUTO;
+        return this;
     }
 
     public Predicate emptyConjunction() {
@@ -77,7 +104,7 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
         String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName));
 
         return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.like(criteriaBuilder.upper(from.get(columnName)), "%" + value.toUpperCase() + "%")
+                ? contains(columnName, value)
                 : null;
     }
 
@@ -92,7 +119,7 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
         String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName));
 
         return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.notLike(criteriaBuilder.upper(from.get(columnName)), "%" + value.toUpperCase() + "%")
+                ? criteriaBuilder.not(contains(columnName, value))
                 : null;
     }
 
@@ -247,8 +274,14 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     /**
      * Builds `in` predicate based on filter values and types
      */
-    @SuppressWarnings("unchecked")
     public Predicate in(String columnName, String filterName) {
+        if (filters instanceof BoundFilters boundFilters) {
+            Optional<BoundFilters.BoundFilter> boundFilter = boundFilters.getFilter(StringUtils.defaultIfBlank(filterName, columnName));
+            if (boundFilter.isPresent()) {
+                return inBound(columnName, boundFilter.get());
+            }
+        }
+
         Object values = MapUtils.getObject(filters, StringUtils.defaultIfBlank(filterName, columnName));
 
         if (values == null) {
@@ -264,10 +297,9 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
 
             // Matches list element type to column type
             return switch (getListElementType(list)) {
-                case STRING -> String.class.equals(columnType) ? from.get(columnName).in((List<String>) values) : null;
-                case INTEGER ->
-                        Integer.class.equals(columnType) ? from.get(columnName).in((List<Integer>) values) : null;
-                case LONG -> Long.class.equals(columnType) ? from.get(columnName).in((List<Long>) values) : null;
+                case STRING -> String.class.equals(columnType) ? inList(columnName, list, String.class) : null;
+                case INTEGER -> Integer.class.equals(columnType) ? inList(columnName, list, Integer.class) : null;
+                case LONG -> Long.class.equals(columnType) ? inList(columnName, list, Long.class) : null;
                 case UNKNOWN -> null;
             };
         }
@@ -279,6 +311,53 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
         return null;
     }
 
+    private Predicate inBound(String columnName, BoundFilters.BoundFilter boundFilter) {
+        return inList(columnName, boundFilter.values(), boundFilter.definition().type());
+    }
+
+    /**
+     * Typed `in` predicate bound according to the in-list strategy
+     */
+    private Predicate inList(String columnName, List<?> values, Class<?> type) {
+        return inListStrategy.in(criteriaBuilder, from.get(columnName), values, type);
+    }
+
+    /**
+     * Combines the predicates of every bound filter; null when the filters were not bound against a schema
+     */
+    public Predicate bound() {
+        if (!(filters instanceof BoundFilters boundFilters)) {
+            return null;
+        }
+
+        return and(boundFilters.getFilters().stream()
+                .map(this::bound)
+                .toArray(Predicate[]::new));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate bound(BoundFilters.BoundFilter boundFilter) {
+        FilterDefinition definition = boundFilter.definition();
+        String columnName = definition.attribute();
+        Expression column = from.get(columnName);
+        Object value = boundFilter.value();
+
+        return switch (definition.operator()) {
+            case EQ -> criteriaBuilder.equal(column, value);
+            case NE -> criteriaBuilder.notEqual(column, value);
+            case LIKE -> contains(columnName, value.toString());
+            case NOT_LIKE -> criteriaBuilder.not(contains(columnName, value.toString()));
+            case STARTS_WITH -> criteriaBuilder.like(criteriaBuilder.upper(column), value.toString().toUpperCase() + "%");
+            case ENDS_WITH -> criteriaBuilder.like(criteriaBuilder.upper(column), "%" + value.toString().toUpperCase());
+            case IN -> inBound(columnName, boundFilter);
+            case NOT_IN -> criteriaBuilder.not(inBound(columnName, boundFilter));
+            case FROM -> criteriaBuilder.greaterThanOrEqualTo(column, (Comparable) value);
+            case TO -> criteriaBuilder.lessThanOrEqualTo(column, (Comparable) value);
+            case IS_TRUE -> Boolean.TRUE.equals(value) ? criteriaBuilder.isTrue(column) : null;
+            case IS_FALSE -> Boolean.FALSE.equals(value) ? criteriaBuilder.isFalse(column) : null;
+        };
+    }
+
     private ListElementType getListElementType(List<?> list) {
         if (list.stream().allMatch(String.class::isInstance)) {
             return ListElementType.STRING;
@@ -313,10 +392,10 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate localDateTimeFrom(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "From"));
+        LocalDateTime value = localDateTimeValue(StringUtils.defaultIfBlank(filterName, columnName + "From"));
 
-        return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), LocalDateTime.parse(value))
+        return value != null
+                ? criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), value)
                 : null;
     }
 
@@ -325,10 +404,10 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate localDateTimeTo(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "To"));
+        LocalDateTime value = localDateTimeValue(StringUtils.defaultIfBlank(filterName, columnName + "To"));
 
-        return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.lessThanOrEqualTo(from.get(columnName), LocalDateTime.parse(value))
+        return value != null
+                ? criteriaBuilder.lessThanOrEqualTo(from.get(columnName), value)
                 : null;
     }
 
@@ -345,10 +424,10 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate dateFrom(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "From"));
+        Date value = dateValue(StringUtils.defaultIfBlank(filterName, columnName + "From"));
 
-        if (StringUtils.isNotBlank(value)) {
-            return criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), Date.from(OffsetDateTime.parse(value).toInstant()));
+        if (value != null) {
+            return criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), value);
         }
 
         return null;
@@ -359,10 +438,10 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate dateTo(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "To"));
+        Date value = dateValue(StringUtils.defaultIfBlank(filterName, columnName + "To"));
 
-        if (StringUtils.isNotBlank(value)) {
-            return criteriaBuilder.lessThanOrEqualTo(from.get(columnName), Date.from(OffsetDateTime.parse(value).toInstant()));
+        if (value != null) {
+            return criteriaBuilder.lessThanOrEqualTo(from.get(columnName), value);
         }
 
         return null;
@@ -381,9 +460,9 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate localDateFrom(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "From"));
-        return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), LocalDate.parse(value))
+        LocalDate value = localDateValue(StringUtils.defaultIfBlank(filterName, columnName + "From"));
+        return value != null
+                ? criteriaBuilder.greaterThanOrEqualTo(from.get(columnName), value)
                 : null;
     }
 
@@ -392,9 +471,9 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
     public Predicate localDateTo(String columnName, String filterName) {
-        String value = MapUtils.getString(filters, StringUtils.defaultIfBlank(filterName, columnName + "To"));
-        return StringUtils.isNotBlank(value)
-                ? criteriaBuilder.lessThanOrEqualTo(from.get(columnName), LocalDate.parse(value))
+        LocalDate value = localDateValue(StringUtils.defaultIfBlank(filterName, columnName + "To"));
+        return value != null
+                ? criteriaBuilder.lessThanOrEqualTo(from.get(columnName), value)
                 : null;
     }
 
@@ -438,18 +517,46 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
 
 
     private Predicate buildSearchPredicates(String searchValue, String[] columns) {
-        String upperSearchValue = "%" + searchValue.toUpperCase() + "%";
+        if (searchMode == SearchMode.FULL_TEXT) {
+            return fullTextMatch(searchValue);
+        }
 
         Predicate[] predicates = Arrays.stream(columns)
-                .map(column -> criteriaBuilder.like(
-                        criteriaBuilder.upper(from.get(column)),
-                        upperSearchValue
-                ))
+                .map(column -> contains(column, searchValue))
                 .toArray(Predicate[]::new);
 
         return criteriaBuilder.or(predicates);
     }
 
+    /**
+     * Case‑insensitive "contains" predicate for a single column in the configured search mode
+     */
+    private Predicate contains(String columnName, String value) {
+        Expression<String> column = from.get(columnName);
+
+        // FULL_TEXT works on the whole row vector, so single column matches fall back to trigram
+        if (searchMode != SearchMode.LIKE && criteriaBuilder instanceof HibernateCriteriaBuilder hibernateCriteriaBuilder) {
+            return hibernateCriteriaBuilder.ilike(column, "%" + value + "%");
+        }
+
+        return criteriaBuilder.like(criteriaBuilder.upper(column), "%" + value.toUpperCase() + "%");
+    }
+
+    private Predicate fullTextMatch(String searchValue) {
+        Expression<Boolean> match = criteriaBuilder.function(
+                PostgreSQLSearchFunctionContributor.FULL_TEXT_MATCH,
+                Boolean.class,
+                from.get(searchVectorAttribute),
+                criteriaBuilder.literal(SearchIndexDdl.DEFAULT_TEXT_SEARCH_CONFIG),
+                // Bound as a parameter, so the SQL does not change with the search text
+                criteriaBuilder instanceof HibernateCriteriaBuilder hibernateCriteriaBuilder
+                        ? hibernateCriteriaBuilder.value(searchValue)
+                        : criteriaBuilder.literal(searchValue)
+        );
+
+        return criteriaBuilder.isTrue(match);
+    }
+
     public Predicate searchNumeric(String... columns) {
         return Optional.ofNullable(columns)
                 .filter(cols -> cols.length > 0)
@@ -507,6 +614,41 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
 
+    /**
+     * Reads a date filter either already typed (bound by a {@link FilterSchema}) or as an ISO string
+     */
+    private LocalDateTime localDateTimeValue(String filterName) {
+        return switch (MapUtils.getObject(filters, filterName)) {
+            case null -> null;
+            case LocalDateTime localDateTime -> localDateTime;
+            case OffsetDateTime offsetDateTime -> offsetDateTime.toLocalDateTime();
+            case LocalDate localDate -> localDate.atStartOfDay();
+            case Object value -> StringUtils.isNotBlank(value.toString()) ? LocalDateTime.parse(value.toString().trim()) : null;
+        };
+    }
+
+    private LocalDate localDateValue(String filterName) {
+        return switch (MapUtils.getObject(filters, filterName)) {
+            case null -> null;
+            case LocalDate localDate -> localDate;
+            case LocalDateTime localDateTime -> localDateTime.toLocalDate();
+            case OffsetDateTime offsetDateTime -> offsetDateTime.toLocalDate();
+            case Object value -> StringUtils.isNotBlank(value.toString()) ? LocalDate.parse(value.toString().trim()) : null;
+        };
+    }
+
+    private Date dateValue(String filterName) {
+        return switch (MapUtils.getObject(filters, filterName)) {
+            case null -> null;
+            case Date date -> date;
+            case OffsetDateTime offsetDateTime -> Date.from(offsetDateTime.toInstant());
+            case Instant instant -> Date.from(instant);
+            case Object value -> StringUtils.isNotBlank(value.toString())
+                    ? Date.from(OffsetDateTime.parse(value.toString().trim()).toInstant())
+                    : null;
+        };
+    }
+
     private String extractSearchValue() {
         return Optional.ofNullable(MapUtils.getString(filters, SEARCH))
                 .filter(StringUtils::isNotBlank)
@@ -514,107 +656,39 @@ public class PredicateBuilder<E1 extends BaseEntity, E2 extends BaseEntity> {
     }
 
 
+    /**
+     * Matches the search value as a date range on the given columns; null when the value is not a date
+     */
     public Predicate searchInDateColumns(String... columns) {
         if (columns == null || columns.length == 0) {
             return null;
         }
 
-        String searchValue = MapUtils.getString(filters, SEARCH);
-
-        if (StringUtils.isBlank(searchValue)) {
-            searchValue = MapUtils.getString(filters, SEARCH_TEXT);
-        }
-
-        // Builds disjunction of date predicates when search provided
-        if (StringUtils.isNotBlank(searchValue)) {
-            List<Predicate> predicates = new ArrayList<>();
-
-            for (String column : columns) {
-                predicates.add(buildDatePredicate(column, searchValue));
-            }
+        DateSearchPlanner.DateRange range = DateSearchPlanner.plan(extractSearchValue());
 
-            return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
+        if (range == null) {
+            return null;
         }
 
-        return null;
-    }
-
-    private Predicate buildDatePredicate(String column, String searchValue) {
-        String functionToChar = "TO_CHAR";
-        String functionTrunc = "TRUNC";
-
-        if (isLocalDateTime(searchValue)) {
-            LocalDateTime parsedDateTime = LocalDateTime.parse(searchValue, DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
-
-            Predicate exactDateTimeMatch = criteriaBuilder.equal(
-                    criteriaBuilder.function(functionTrunc, LocalDateTime.class, from.get(column)),
-                    parsedDateTime.toLocalDate()
-            );
-
-            Predicate exactTimeMatch = criteriaBuilder.equal(
-                    criteriaBuilder.function(functionToChar, String.class, from.get(column), criteriaBuilder.literal("HH24")),
-                    parsedDateTime.format(DateTimeFormatter.ofPattern("HH"))
-            );
-
-            Predicate exactMinuteMatch = criteriaBuilder.equal(
-                    criteriaBuilder.function(functionToChar, String.class, from.get(column), criteriaBuilder.literal("MI")),
-                    parsedDateTime.format(DateTimeFormatter.ofPattern("mm"))
-            );
-
-            return criteriaBuilder.and(exactDateTimeMatch, exactTimeMatch, exactMinuteMatch);
-
-        } else if (isDate(searchValue)) {
-            LocalDate parsedDate = LocalDate.parse(searchValue, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-            LocalDateTime startOfDay = parsedDate.atStartOfDay();
-            LocalDateTime endOfDay = parsedDate.atTime(23, 59, 59);
-
-            return criteriaBuilder.between(from.get(column), startOfDay, endOfDay);
-
-        } else {
-            Predicate yearLike = buildDateTimePredicate(column, "YYYY", searchValue);
-            Predicate monthLike = buildDateTimePredicate(column, "MM", searchValue);
-            Predicate dayLike = buildDateTimePredicate(column, "DD", searchValue);
-            Predicate hourLike = buildDateTimePredicate(column, "HH24", searchValue);
-            Predicate minuteLike = buildDateTimePredicate(column, "MI", searchValue);
+        Predicate[] predicates = Arrays.stream(columns)
+                .map(column -> buildDatePredicate(column, range))
+                .toArray(Predicate[]::new);
 
-            return criteriaBuilder.or(yearLike, monthLike, dayLike, hourLike, minuteLike);
-        }
+        return criteriaBuilder.or(predicates);
     }
 
-    private Predicate buildDateTimePredicate(String column, String dateField, String searchValue) {
-        String functionToChar = "TO_CHAR";
-
-        return criteriaBuilder.like(
-                criteriaBuilder.function(functionToChar, String.class, from.get(column), criteriaBuilder.literal(dateField)),
-                "%" + searchValue + "%"
+    /**
+     * Half-open range predicate (col >= start AND col < end) so the column index can be used
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate buildDatePredicate(String column, DateSearchPlanner.DateRange range) {
+        Expression path = from.get(column);
+        Class<?> columnType = path.getJavaType();
+
+        return criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(path, (Comparable) range.start(columnType)),
+                criteriaBuilder.lessThan(path, (Comparable) range.end(columnType))
         );
     }
 
-
-    private boolean isDate(String text) {
-        if (text == null || text.isBlank()) {
-            return false;
-        }
-
-        try {
-            LocalDate.parse(text, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
-    }
-
-    private boolean isLocalDateTime(String text) {
-        if (text == null || text.isBlank()) {
-            return false;
-        }
-
-        try {
-            LocalDateTime.parse(text, DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
-    }
-
 }
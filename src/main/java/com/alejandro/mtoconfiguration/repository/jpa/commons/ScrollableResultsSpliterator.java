@@ -0,0 +1,43 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.ScrollableResults;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Sequential spliterator over a forward-only {@link ScrollableResults} that clears the persistence context
+ * every {@code clearInterval} rows, once the consumer is done with the previous chunk.
+ */
+class ScrollableResultsSpliterator<E> extends Spliterators.AbstractSpliterator<E> {
+
+    private final ScrollableResults<E> scrollableResults;
+    private final EntityManager entityManager;
+    private final int clearInterval;
+
+    private long position;
+
+    ScrollableResultsSpliterator(ScrollableResults<E> scrollableResults, EntityManager entityManager, int clearInterval) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.scrollableResults = scrollableResults;
+        this.entityManager = entityManager;
+        this.clearInterval = clearInterval;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (position > 0 && clearInterval > 0 && position % clearInterval == 0) {
+            entityManager.clear();
+        }
+
+        if (!scrollableResults.next()) {
+            return false;
+        }
+
+        position++;
+        action.accept(scrollableResults.get());
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of exact search counts, keyed by entity and the full filter fingerprint
+ * (filters plus additional params). Used by the {@code CACHED} count strategy.
+ */
+final class SearchCountCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Map<CountKey, CachedCount> COUNTS = new ConcurrentHashMap<>();
+
+    private SearchCountCache() {
+    }
+
+    /**
+     * Returns the cached count when still fresh, otherwise computes and stores it
+     */
+    static long get(Class<?> entityClass, Map<String, Object> filters, Map<String, Object> params,
+                    Duration ttl, LongSupplier exactCount) {
+        CountKey key = new CountKey(entityClass, copy(filters), copy(params));
+        long now = System.nanoTime();
+
+        CachedCount cached = COUNTS.get(key);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.count();
+        }
+
+        long count = exactCount.getAsLong();
+        evictIfFull(now);
+        COUNTS.put(key, new CachedCount(count, now + ttl.toNanos()));
+
+        return count;
+    }
+
+    private static void evictIfFull(long now) {
+        if (COUNTS.size() < MAX_ENTRIES) {
+            return;
+        }
+
+        COUNTS.values().removeIf(cached -> now - cached.expiresAt() >= 0);
+        if (COUNTS.size() >= MAX_ENTRIES) {
+            COUNTS.clear();
+        }
+    }
+
+    private static Map<String, Object> copy(Map<String, Object> map) {
+        return map == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(map));
+    }
+
+    private record CountKey(Class<?> entityClass, Map<String, Object> filters, Map<String, Object> params) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
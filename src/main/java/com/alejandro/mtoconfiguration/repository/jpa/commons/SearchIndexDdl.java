@@ -0,0 +1,101 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the PostgreSQL DDL that backs each {@link SearchMode}, to be run from the database migrations.
+ * Indexes are created {@code CONCURRENTLY}, so the statements must run outside a transaction block.
+ */
+public final class SearchIndexDdl {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+    private static final Pattern TEXT_SEARCH_CONFIG = Pattern.compile("[a-z_]+");
+
+    public static final String DEFAULT_TEXT_SEARCH_CONFIG = "simple";
+
+    private SearchIndexDdl() {
+    }
+
+    public static String trigramExtension() {
+        return "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+    }
+
+    /**
+     * Index serving {@code col ILIKE '%value%'} (TRIGRAM mode)
+     */
+    public static String trigramIndex(String table, String column) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s USING gin (%s gin_trgm_ops)"
+                .formatted(indexName(table, column, "trgm"), identifier(table), identifier(column));
+    }
+
+    /**
+     * Index serving {@code upper(col) LIKE '%VALUE%'} (LIKE mode)
+     */
+    public static String upperTrigramIndex(String table, String column) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s USING gin (upper(%s) gin_trgm_ops)"
+                .formatted(indexName(table, column, "utrgm"), identifier(table), identifier(column));
+    }
+
+    /**
+     * Stored generated tsvector column over the searchable columns (FULL_TEXT mode). The entity maps it as a
+     * read-only attribute, e.g. {@code @Column(insertable = false, updatable = false, columnDefinition = "tsvector")}.
+     */
+    public static String searchVectorColumn(String table, String vectorColumn, String config, String... sourceColumns) {
+        String document = Arrays.stream(sourceColumns)
+                .map(column -> "coalesce(%s::text, '')".formatted(identifier(column)))
+                .collect(Collectors.joining(" || ' ' || "));
+
+        return "ALTER TABLE %s ADD COLUMN IF NOT EXISTS %s tsvector GENERATED ALWAYS AS (to_tsvector('%s'::regconfig, %s)) STORED"
+                .formatted(identifier(table), identifier(vectorColumn), textSearchConfig(config), document);
+    }
+
+    public static String searchVectorIndex(String table, String vectorColumn) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s USING gin (%s)"
+                .formatted(indexName(table, vectorColumn, "fts"), identifier(table), identifier(vectorColumn));
+    }
+
+    /**
+     * All the statements needed by a search mode over the given table columns
+     */
+    public static List<String> forMode(SearchMode searchMode, String table, String vectorColumn, String... columns) {
+        List<String> statements = new ArrayList<>();
+        switch (searchMode) {
+            case LIKE -> {
+                statements.add(trigramExtension());
+                Arrays.stream(columns).map(column -> upperTrigramIndex(table, column)).forEach(statements::add);
+            }
+            case TRIGRAM -> {
+                statements.add(trigramExtension());
+                Arrays.stream(columns).map(column -> trigramIndex(table, column)).forEach(statements::add);
+            }
+            case FULL_TEXT -> {
+                statements.add(searchVectorColumn(table, vectorColumn, DEFAULT_TEXT_SEARCH_CONFIG, columns));
+                statements.add(searchVectorIndex(table, vectorColumn));
+            }
+        }
+        return statements;
+    }
+
+    private static String indexName(String table, String column, String suffix) {
+        String unqualifiedTable = identifier(table).substring(table.lastIndexOf('.') + 1);
+        return "ix_%s_%s_%s".formatted(unqualifiedTable, identifier(column), suffix);
+    }
+
+    private static String identifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("Invalid SQL identifier: " + identifier);
+        }
+        return identifier;
+    }
+
+    private static String textSearchConfig(String config) {
+        if (config == null || !TEXT_SEARCH_CONFIG.matcher(config).matches()) {
+            throw new IllegalArgumentException("Invalid text search configuration: " + config);
+        }
+        return config;
+    }
+}
@@ -0,0 +1,15 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+/**
+ * Engine used by {@link PredicateBuilder} for free-text filters ({@code search}, {@code searchText} and {@code like}).
+ * The filter contract is the same in every mode; only the generated SQL changes.
+ */
+public enum SearchMode {
+    // upper(col) LIKE '%VALUE%'; only an upper(col) gin_trgm_ops index can serve it
+    LIKE,
+    // col ILIKE '%value%'; served by a col gin_trgm_ops index (see SearchIndexDdl#trigramIndex)
+    TRIGRAM,
+    // searchVector @@ plainto_tsquery(config, value) against a generated tsvector column
+    // (see SearchIndexDdl#searchVectorColumn); like() keeps the TRIGRAM behaviour
+    FULL_TEXT
+}
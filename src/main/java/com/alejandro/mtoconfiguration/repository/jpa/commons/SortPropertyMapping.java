@@ -0,0 +1,105 @@
+package com.alejandro.mtoconfiguration.repository.jpa.commons;
+
+import jakarta.persistence.criteria.JoinType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable mapping from the sort properties exposed to clients (aliases) to entity property paths, optionally
+ * with the join type used to reach the association of the path (alias → path → join).
+ * <p>
+ * A repository declares it once through {@code CriteriaSearchRepository#getSortPropertyMapping()}; it is resolved
+ * on the first search and memoized per repository class, so sorting does not allocate the mapping per request.
+ * <pre>
+ * SortPropertyMapping.builder()
+ *         .map("poleType", "type.code", JoinType.LEFT)
+ *         .map("line", "section.line.description")
+ *         .build();
+ * </pre>
+ */
+public final class SortPropertyMapping {
+
+    public static final SortPropertyMapping EMPTY = new SortPropertyMapping(Map.of(), Map.of());
+
+    private static final Map<Class<?>, SortPropertyMapping> BY_REPOSITORY = new ConcurrentHashMap<>();
+
+    private final Map<String, String> paths;
+    private final Map<String, JoinType> joinTypes;
+
+    private SortPropertyMapping(Map<String, String> paths, Map<String, JoinType> joinTypes) {
+        this.paths = paths;
+        this.joinTypes = joinTypes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Wraps a plain alias → path map
+     */
+    public static SortPropertyMapping of(Map<String, String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            return EMPTY;
+        }
+
+        Builder builder = builder();
+        paths.forEach(builder::map);
+        return builder.build();
+    }
+
+    /**
+     * Returns the memoized mapping of the repository class, resolving it with the supplier on the first call
+     */
+    static SortPropertyMapping forRepository(Class<?> repositoryClass, Supplier<SortPropertyMapping> mappingSupplier) {
+        return BY_REPOSITORY.computeIfAbsent(repositoryClass, type -> Objects.requireNonNullElse(mappingSupplier.get(), EMPTY));
+    }
+
+    public boolean contains(String alias) {
+        return paths.containsKey(alias);
+    }
+
+    /**
+     * Returns the entity path of the alias, or the property itself when it is not mapped
+     */
+    public String getPath(String alias) {
+        return paths.getOrDefault(alias, alias);
+    }
+
+    /**
+     * Returns the join type declared for the given entity path, or null to reuse joins or navigate implicitly
+     */
+    public JoinType getJoinType(String path) {
+        return joinTypes.get(path);
+    }
+
+    public Map<String, String> asMap() {
+        return paths;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, String> paths = new HashMap<>();
+        private final Map<String, JoinType> joinTypes = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder map(String alias, String path) {
+            paths.put(alias, path);
+            return this;
+        }
+
+        public Builder map(String alias, String path, JoinType joinType) {
+            paths.put(alias, path);
+            joinTypes.put(path, joinType);
+            return this;
+        }
+
+        public SortPropertyMapping build() {
+            return new SortPropertyMapping(Map.copyOf(paths), Map.copyOf(joinTypes));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.alejandro.mtoconfiguration.validator.commons;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ErrorCodeResolver} backed by every {@link ErrorCatalogEntry} enum of the application, indexed by code
+ * into an immutable map on startup.
+ * <p>
+ * Messages can be translated in the "i18n/errors" bundle using the error code as key. The bundle files found on the
+ * classpath are loaded and compiled once on startup; a request locale is matched to the closest of them
+ * (language and country, language, base file), so the locales clients send never grow the cache. Missing keys fall
+ * back to the catalog template.
+ */
+@Slf4j
+@Component
+public class CatalogErrorCodeResolver implements ErrorCodeResolver {
+
+    private static final String BASE_PACKAGE = "com.alejandro.mtoconfiguration";
+    private static final String BUNDLE_LOCATION = "classpath*:i18n/errors*.properties";
+    private static final Pattern BUNDLE_FILE = Pattern.compile("errors(?:_([a-z]{2,3})(?:_([A-Z]{2}))?)?\\.properties");
+
+    private final Map<String, ErrorCode> errorCodes;
+    private final Map<Locale, Map<String, MessageTemplate>> localizedTemplates;
+
+    public CatalogErrorCodeResolver() {
+        this.errorCodes = index(scanCatalogs());
+        this.localizedTemplates = loadBundles();
+        log.info("Error catalog indexed with {} codes, translated to {}", errorCodes.size(), localizedTemplates.keySet());
+    }
+
+    @Override
+    public Optional<ErrorCode> findByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(errorCodes.get(code));
+    }
+
+    public Map<String, ErrorCode> getErrorCodes() {
+        return errorCodes;
+    }
+
+    /**
+     * Message of the error in the locale of the current request
+     */
+    public String getMessage(ErrorCode errorCode, Object... args) {
+        return getMessage(errorCode, LocaleContextHolder.getLocale(), args);
+    }
+
+    public String getMessage(ErrorCode errorCode, Locale locale, Object... args) {
+        MessageTemplate template = templates(locale).get(errorCode.code());
+        return template == null ? errorCode.format(args) : template.render(args);
+    }
+
+    /**
+     * Templates of the closest bundle to the locale: language and country, language only or the base file
+     */
+    private Map<String, MessageTemplate> templates(Locale locale) {
+        if (localizedTemplates.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, MessageTemplate> templates = null;
+        if (locale != null && !locale.getCountry().isEmpty()) {
+            templates = localizedTemplates.get(Locale.of(locale.getLanguage(), locale.getCountry()));
+        }
+        if (templates == null && locale != null) {
+            templates = localizedTemplates.get(Locale.of(locale.getLanguage()));
+        }
+        return templates != null ? templates : localizedTemplates.getOrDefault(Locale.ROOT, Map.of());
+    }
+
+    private static List<Class<?>> scanCatalogs() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(ErrorCatalogEntry.class));
+
+        return scanner.findCandidateComponents(BASE_PACKAGE).stream()
+                .<Class<?>>map(beanDefinition -> ClassUtils.resolveClassName(beanDefinition.getBeanClassName(),
+                        CatalogErrorCodeResolver.class.getClassLoader()))
+                .filter(Class::isEnum)
+                .toList();
+    }
+
+    private static Map<String, ErrorCode> index(List<Class<?>> catalogs) {
+        Map<String, ErrorCode> index = new HashMap<>();
+        for (Class<?> catalog : catalogs) {
+            for (Object constant : catalog.getEnumConstants()) {
+                ErrorCode errorCode = ((ErrorCatalogEntry) constant).errorCode();
+                ErrorCode previous = index.putIfAbsent(errorCode.code(), errorCode);
+                if (previous != null && !previous.equals(errorCode)) {
+                    throw new IllegalStateException("Duplicated error code " + errorCode.code() + " in " + catalog.getName());
+                }
+                // Compile the catalog template up front
+                MessageTemplate.register(errorCode.messageTemplate());
+            }
+        }
+        return Map.copyOf(index);
+    }
+
+    /**
+     * Loads every bundle file; each locale also inherits the keys of its parents (base file, then language)
+     */
+    private static Map<Locale, Map<String, MessageTemplate>> loadBundles() {
+        Map<Locale, Properties> files = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(BUNDLE_LOCATION)) {
+                Matcher matcher = BUNDLE_FILE.matcher(Objects.requireNonNullElse(resource.getFilename(), ""));
+                if (!matcher.matches()) {
+                    continue;
+                }
+
+                Locale locale = matcher.group(1) == null ? Locale.ROOT
+                        : matcher.group(2) == null ? Locale.of(matcher.group(1))
+                        : Locale.of(matcher.group(1), matcher.group(2));
+                try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                    files.computeIfAbsent(locale, key -> new Properties()).load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error message bundles could not be read", e);
+        }
+
+        Map<Locale, Map<String, MessageTemplate>> bundles = new HashMap<>();
+        files.forEach((locale, properties) -> {
+            Map<String, String> messages = new HashMap<>();
+            putAll(messages, files.get(Locale.ROOT));
+            if (!locale.getCountry().isEmpty()) {
+                putAll(messages, files.get(Locale.of(locale.getLanguage())));
+            }
+            putAll(messages, properties);
+
+            Map<String, MessageTemplate> templates = new HashMap<>();
+            messages.forEach((code, message) -> templates.put(code, MessageTemplate.compile(message)));
+            bundles.put(locale, Map.copyOf(templates));
+        });
+        return Map.copyOf(bundles);
+    }
+
+    private static void putAll(Map<String, String> messages, Properties properties) {
+        if (properties != null) {
+            properties.stringPropertyNames().forEach(key -> messages.put(key, properties.getProperty(key)));
+        }
+    }
+}
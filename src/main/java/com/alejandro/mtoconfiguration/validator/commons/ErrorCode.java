@@ -24,10 +24,10 @@ public record ErrorCode(
     }
 
     /**
-     * Devuelve el mensaje formateado usando String::formatted.
+     * Devuelve el mensaje formateado con la plantilla precompilada ({@link MessageTemplate}).
      * Ej: template "Campo %s" → format("nombre") = "Campo nombre"
      */
     public String format(Object... args) {
-        return messageTemplate.formatted(args);
+        return MessageTemplate.of(messageTemplate).render(args);
     }
 }
@@ -0,0 +1,175 @@
+package com.alejandro.mtoconfiguration.validator.commons;
+
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Message template of an {@link ErrorCode} pre-compiled into literal and argument segments.
+ * <p>
+ * Supports {@code %s}, {@code %N$s}, {@code %%} and {@code %n}, which cover the catalog templates; any other
+ * conversion falls back to {@link String#format}. The templates of the error catalogs are registered once, when
+ * {@link CatalogErrorCodeResolver} indexes them; any other text is compiled on each use, so the registry is bounded
+ * by the catalogs. Invalid argument indexes ({@code %0$s}) are rejected when compiling.
+ */
+public final class MessageTemplate {
+
+    private static final Map<String, MessageTemplate> CATALOG = new ConcurrentHashMap<>();
+
+    /** Literal segments are Strings, argument segments their zero-based Integer index */
+    private final Object[] segments;
+    private final String template;
+    private final boolean fallback;
+    private final int literalLength;
+
+    private MessageTemplate(String template, Object[] segments, boolean fallback, int literalLength) {
+        this.template = template;
+        this.segments = segments;
+        this.fallback = fallback;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compiled template of a catalog entry, or the text compiled for this use when it is not registered
+     */
+    public static MessageTemplate of(String template) {
+        MessageTemplate compiled = CATALOG.get(template);
+        return compiled != null ? compiled : compile(template);
+    }
+
+    /**
+     * Compiles a catalog template once; only meant for the templates of the {@link ErrorCatalogEntry} enums
+     */
+    static MessageTemplate register(String template) {
+        return CATALOG.computeIfAbsent(template, MessageTemplate::compile);
+    }
+
+    public static MessageTemplate compile(String template) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int nextIndex = 0;
+        int i = 0;
+
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 >= template.length()) {
+                return new MessageTemplate(template, null, true, 0);
+            }
+
+            char next = template.charAt(i + 1);
+            if (next == '%') {
+                literal.append('%');
+                i += 2;
+                continue;
+            }
+            if (next == 'n') {
+                literal.append(System.lineSeparator());
+                i += 2;
+                continue;
+            }
+
+            int index;
+            int end;
+            if (next == 's') {
+                index = nextIndex++;
+                end = i + 2;
+            } else {
+                int digits = i + 1;
+                while (digits < template.length() && Character.isDigit(template.charAt(digits))) {
+                    digits++;
+                }
+                if (digits == i + 1 || digits + 1 >= template.length()
+                        || template.charAt(digits) != '$' || template.charAt(digits + 1) != 's') {
+                    return new MessageTemplate(template, null, true, 0);
+                }
+                end = digits + 2;
+                index = argumentIndex(template, i + 1, digits);
+                // Argument indexes start at 1, as in String.format
+                if (index < 0) {
+                    throw new UnknownFormatConversionException(template.substring(i, end));
+                }
+            }
+
+            if (!literal.isEmpty()) {
+                literalLength += literal.length();
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(index);
+            i = end;
+        }
+
+        if (!literal.isEmpty()) {
+            literalLength += literal.length();
+            segments.add(literal.toString());
+        }
+
+        return new MessageTemplate(template, segments.toArray(), false, literalLength);
+    }
+
+    /**
+     * Zero-based index of a {@code %N$s} specifier, or -1 when it is not a valid argument index
+     */
+    private static int argumentIndex(String template, int start, int end) {
+        try {
+            return Integer.parseInt(template, start, end, 10) - 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Renders the template with the same output as {@link String#format} for the supported conversions
+     */
+    public String render(Object... args) {
+        if (fallback) {
+            return template.formatted(args);
+        }
+        if (segments.length == 1 && segments[0] instanceof String text) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * segments.length);
+        for (Object segment : segments) {
+            if (segment instanceof Integer index) {
+                if (args == null || index >= args.length) {
+                    throw new MissingFormatArgumentException("%" + (index + 1) + "$s");
+                }
+                builder.append(args[index]);
+            } else {
+                builder.append((String) segment);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Renders the template, returning it untouched when the arguments do not match
+     */
+    public String renderQuietly(Object... args) {
+        try {
+            return render(args);
+        } catch (IllegalFormatException e) {
+            return template;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,139 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.core.imports.ImportValidator;
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk validation of DTOs against the {@link ValidationPlan} of their class.
+ * <p>
+ * Plans are compiled once from the {@link ValidationPlanDefinition} beans. A batch is split recursively on a
+ * dedicated fork-join pool; every task writes the alerts of its rows into their own slot of the result array, so
+ * no lock or concurrent collection is involved and valid rows share the same empty list.
+ */
+@Slf4j
+@Component
+public class ValidationEngine {
+
+    private final ValidationEngineConfig validationEngineConfig;
+    private final Map<Class<?>, ValidationPlan<?>> plans = new ConcurrentHashMap<>();
+    private final ForkJoinPool pool;
+
+    public ValidationEngine(ValidationEngineConfig validationEngineConfig,
+                            ObjectProvider<ValidationPlanDefinition<?>> definitions) {
+        this.validationEngineConfig = validationEngineConfig;
+        this.pool = new ForkJoinPool(Math.max(1, validationEngineConfig.getParallelism()));
+        definitions.orderedStream().forEach(this::register);
+    }
+
+    /**
+     * Compiles and registers the plan of a definition, replacing the previous plan of the same class
+     */
+    public <T> ValidationPlan<T> register(ValidationPlanDefinition<T> definition) {
+        ValidationPlan.Builder<T> builder = ValidationPlan.builder(definition.getType());
+        definition.define(builder);
+        ValidationPlan<T> plan = builder.build();
+        plans.put(plan.getType(), plan);
+        log.debug("Validation plan compiled for {} with {} rules", plan.getType().getSimpleName(), plan.size());
+        return plan;
+    }
+
+    /**
+     * Compiled plan of the class; an empty plan when none was registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ValidationPlan<T> getPlan(Class<T> type) {
+        return (ValidationPlan<T>) plans.computeIfAbsent(type, key -> ValidationPlan.builder(key).build());
+    }
+
+    public <T> List<Alert> validate(T item, Class<T> type) {
+        return getPlan(type).validate(item);
+    }
+
+    /**
+     * Alerts of every item, in the order of the batch
+     */
+    public <T> List<List<Alert>> validateAll(List<T> items, Class<T> type) {
+        ValidationPlan<T> plan = getPlan(type);
+        @SuppressWarnings("unchecked")
+        List<Alert>[] results = new List[items.size()];
+        int chunkSize = Math.max(1, validationEngineConfig.getChunkSize());
+
+        if (items.size() <= chunkSize) {
+            new ValidationTask<>(plan, items, results, 0, items.size(), chunkSize).compute();
+        } else {
+            pool.invoke(new ValidationTask<>(plan, items, results, 0, items.size(), chunkSize));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Alerts of the invalid items only, flattened in the order of the batch
+     */
+    public <T> List<Alert> validateAllFlat(List<T> items, Class<T> type) {
+        List<Alert> alerts = new ArrayList<>();
+        for (List<Alert> itemAlerts : validateAll(items, type)) {
+            alerts.addAll(itemAlerts);
+        }
+        return alerts;
+    }
+
+    /**
+     * Adapter for the import pipeline, which already validates every batch in parallel
+     */
+    public <T> ImportValidator<T> importValidator(Class<T> type) {
+        ValidationPlan<T> plan = getPlan(type);
+        return plan::validate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class ValidationTask<T> extends RecursiveAction {
+
+        private final transient ValidationPlan<T> plan;
+        private final transient List<T> items;
+        private final transient List<Alert>[] results;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private ValidationTask(ValidationPlan<T> plan, List<T> items, List<Alert>[] results, int from, int to,
+                               int chunkSize) {
+            this.plan = plan;
+            this.items = items;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = plan.validate(items.get(i));
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidationTask<>(plan, items, results, from, middle, chunkSize),
+                    new ValidationTask<>(plan, items, results, middle, to, chunkSize));
+        }
+    }
+}
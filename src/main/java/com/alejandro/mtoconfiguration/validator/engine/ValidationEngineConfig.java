@@ -0,0 +1,20 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the bulk validation engine, mapped from "configuration.modules.validation".
+ *
+ * Fields include:
+ * - parallelism: worker threads of the fork-join pool validating a batch.
+ * - chunkSize: rows validated by a single task before the batch is split no further.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "configuration.modules.validation")
+public class ValidationEngineConfig {
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = 1024;
+}
@@ -0,0 +1,132 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCatalogEntry;
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCode;
+import com.alejandro.mtoconfiguration.validator.commons.Severity;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable list of the rules of a DTO class, compiled once by the {@link ValidationEngine}.
+ * <p>
+ * Rules run in declaration order, except CRITICAL ones, which run first: the first CRITICAL violation stops the
+ * validation of the item. A rule that throws rejects only its item, with a DANGER alert, and also stops its
+ * validation. Valid items do not allocate.
+ */
+public final class ValidationPlan<T> {
+
+    static final String RULE_FAILURE_MESSAGE = "La fila no es válida";
+
+    private final Class<T> type;
+    private final List<ValidationRule.Compiled<T>> rules;
+
+    private ValidationPlan(Class<T> type, List<ValidationRule.Compiled<T>> rules) {
+        this.type = type;
+        this.rules = rules;
+    }
+
+    public static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * Alerts of the item; an empty immutable list when it is valid
+     */
+    public List<Alert> validate(T item) {
+        List<Alert> alerts = null;
+
+        for (ValidationRule.Compiled<T> compiled : rules) {
+            Alert alert;
+            boolean last = compiled.errorCode().severity() == Severity.CRITICAL;
+            try {
+                Object[] args = compiled.rule().check(item);
+                if (args == null) {
+                    continue;
+                }
+                alert = toAlert(compiled.errorCode(), args, compiled.fields());
+            } catch (RuntimeException e) {
+                alert = Alert.ofDanger(RULE_FAILURE_MESSAGE, e.getMessage(), Arrays.asList(compiled.fields()));
+                last = true;
+            }
+
+            if (alerts == null) {
+                alerts = new ArrayList<>(2);
+            }
+            alerts.add(alert);
+
+            if (last) {
+                break;
+            }
+        }
+
+        return alerts == null ? List.of() : alerts;
+    }
+
+    /**
+     * Severity → alert level: INFO and WARNING keep their level, ERROR and CRITICAL are DANGER
+     */
+    static Alert toAlert(ErrorCode errorCode, Object[] args, String[] fields) {
+        String message = errorCode.format(args);
+        List<String> fieldList = Arrays.asList(fields);
+
+        return switch (errorCode.severity()) {
+            case INFO -> Alert.ofInfo(message, errorCode.code(), fieldList);
+            case WARNING -> Alert.ofWarning(message, errorCode.code(), fieldList);
+            case ERROR, CRITICAL -> Alert.ofDanger(message, errorCode.code(), fieldList);
+        };
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final List<ValidationRule.Compiled<T>> rules = new ArrayList<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Adds a rule returning the message arguments of its violation, or null when valid
+         */
+        public Builder<T> rule(ErrorCatalogEntry entry, ValidationRule<T> rule, String... fields) {
+            rules.add(new ValidationRule.Compiled<>(entry.errorCode(), rule, fields));
+            return this;
+        }
+
+        /**
+         * Adds a rule that fails when the predicate is false; the message arguments are taken from the item
+         */
+        public Builder<T> check(ErrorCatalogEntry entry, Predicate<T> valid, Function<T, Object[]> args, String... fields) {
+            return rule(entry, item -> valid.test(item) ? null : args.apply(item), fields);
+        }
+
+        /**
+         * Adds a rule that fails when the value is null or blank
+         */
+        public Builder<T> required(String field, Function<T, ?> getter, ErrorCatalogEntry entry) {
+            Object[] args = {field};
+            return rule(entry, item -> {
+                Object value = getter.apply(item);
+                return value == null || value instanceof CharSequence text && text.toString().isBlank() ? args : null;
+            }, field);
+        }
+
+        public ValidationPlan<T> build() {
+            List<ValidationRule.Compiled<T>> ordered = new ArrayList<>(rules);
+            // Stable sort: CRITICAL rules first, declaration order otherwise
+            ordered.sort(Comparator.comparing(compiled -> compiled.errorCode().severity() != Severity.CRITICAL));
+            return new ValidationPlan<>(type, List.copyOf(ordered));
+        }
+    }
+}
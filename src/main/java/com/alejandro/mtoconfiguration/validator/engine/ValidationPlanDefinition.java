@@ -0,0 +1,11 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+/**
+ * Bean declaring the rules of a DTO class; the {@link ValidationEngine} compiles it once on startup
+ */
+public interface ValidationPlanDefinition<T> {
+
+    Class<T> getType();
+
+    void define(ValidationPlan.Builder<T> builder);
+}
@@ -0,0 +1,21 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCode;
+
+/**
+ * Compiled check of a {@link ValidationPlan}: returns the message arguments of the violation, or null when the item
+ * is valid
+ */
+@FunctionalInterface
+public interface ValidationRule<T> {
+
+    Object[] NO_ARGS = new Object[0];
+
+    Object[] check(T item);
+
+    /**
+     * Rule bound to its catalog error and the fields it refers to
+     */
+    record Compiled<T>(ErrorCode errorCode, ValidationRule<T> rule, String[] fields) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.alejandro.mtoconfiguration.core.events;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs two bus nodes against a local PostgreSQL instance, configured through MTO_TEST_POSTGRES_URL (and
+ * MTO_TEST_POSTGRES_USERNAME / MTO_TEST_POSTGRES_PASSWORD); skipped when it is not set.
+ */
+@EnabledIfEnvironmentVariable(named = "MTO_TEST_POSTGRES_URL", matches = ".+")
+class PostgresEntityChangeBusTest {
+
+    private static final String CHANNEL = "mto_entity_changes_test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String url = System.getenv("MTO_TEST_POSTGRES_URL");
+    private final String username = System.getenv("MTO_TEST_POSTGRES_USERNAME");
+    private final String password = System.getenv("MTO_TEST_POSTGRES_PASSWORD");
+
+    private RecordingSubscriber subscriberA;
+    private RecordingSubscriber subscriberB;
+    private PostgresEntityChangeBus nodeA;
+    private PostgresEntityChangeBus nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        subscriberA = new RecordingSubscriber();
+        subscriberB = new RecordingSubscriber();
+        nodeA = node("mto-bus-a", subscriberA);
+        nodeB = node("mto-bus-b", subscriberB);
+        nodeA.start();
+        nodeB.start();
+
+        await(() -> listening("mto-bus-a") && listening("mto-bus-b"));
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void dispatchesPublishedChangesToTheOtherNodes() {
+        nodeA.publish(List.of(WatchedEntity.class, IgnoredEntity.class));
+
+        await(() -> subscriberB.changes.contains(WatchedEntity.class));
+        assertThat(subscriberB.changes).containsExactly(WatchedEntity.class);
+        // Own notifications are not dispatched back to the publisher
+        assertThat(subscriberA.changes).isEmpty();
+    }
+
+    @Test
+    void resyncsAfterTheListenConnectionIsLost() throws SQLException {
+        terminate("mto-bus-b");
+
+        await(() -> subscriberB.resyncs.get() > 0);
+        assertThat(subscriberA.resyncs.get()).isZero();
+
+        // The reopened connection keeps receiving notifications
+        await(() -> listening("mto-bus-b"));
+        nodeA.publish(List.of(WatchedEntity.class));
+        await(() -> subscriberB.changes.contains(WatchedEntity.class));
+    }
+
+    private PostgresEntityChangeBus node(String applicationName, EntityChangeSubscriber subscriber) {
+        String nodeUrl = url + (url.contains("?") ? "&" : "?") + "ApplicationName=" + applicationName;
+        EntityChangeBusConfig config = new EntityChangeBusConfig();
+        config.setChannel(CHANNEL);
+        config.setPollTimeout(Duration.ofMillis(100));
+        config.setReconnectDelay(Duration.ofMillis(100));
+        config.setMaxReconnectDelay(Duration.ofMillis(500));
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("subscriber", subscriber);
+
+        return new PostgresEntityChangeBus(new DriverManagerDataSource(nodeUrl, username, password),
+                entityManagerFactory(), beanFactory.getBeanProvider(EntityChangeSubscriber.class), config);
+    }
+
+    private static EntityManagerFactory entityManagerFactory() {
+        EntityType<?> watched = mock(EntityType.class);
+        doReturn(WatchedEntity.class).when(watched).getJavaType();
+        EntityType<?> ignored = mock(EntityType.class);
+        doReturn(IgnoredEntity.class).when(ignored).getJavaType();
+
+        Metamodel metamodel = mock(Metamodel.class);
+        doReturn(Set.of(watched, ignored)).when(metamodel).getEntities();
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        doReturn(metamodel).when(entityManagerFactory).getMetamodel();
+        return entityManagerFactory;
+    }
+
+    private boolean listening(String applicationName) {
+        try (Connection connection = new DriverManagerDataSource(url, username, password).getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select count(*) from pg_stat_activity where application_name = ? and query ilike 'listen%'")) {
+            statement.setString(1, applicationName);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void terminate(String applicationName) throws SQLException {
+        try (Connection connection = new DriverManagerDataSource(url, username, password).getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?")) {
+            statement.setString(1, applicationName);
+            statement.execute();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within %s", TIMEOUT).isLessThan(deadline);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static class WatchedEntity {
+    }
+
+    static class IgnoredEntity {
+    }
+
+    static class RecordingSubscriber implements EntityChangeSubscriber {
+
+        private final List<Class<?>> changes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger resyncs = new AtomicInteger();
+
+        @Override
+        public boolean supports(Class<?> entityType) {
+            return WatchedEntity.class.equals(entityType);
+        }
+
+        @Override
+        public void onChange(Class<?> entityType) {
+            changes.add(entityType);
+        }
+
+        @Override
+        public void resync() {
+            resyncs.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.alejandro.mtoconfiguration.core.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowReaderTest {
+
+    @Test
+    void readsColumnsAndValues() {
+        CsvRowReader reader = reader("code;name\nP1;Pole 1\nP2;Pole 2\n");
+
+        assertThat(reader.getColumns()).containsExactly("code", "name");
+        List<ImportRow> rows = rows(reader);
+        assertThat(rows).extracting(row -> row.get("code")).containsExactly("P1", "P2");
+        assertThat(rows).extracting(row -> row.get("name")).containsExactly("Pole 1", "Pole 2");
+        assertThat(rows).extracting(ImportRow::lineNumber).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void readsQuotedFieldsWithDelimitersAndEscapedQuotes() {
+        ImportRow row = rows(reader("code;name\n\"P;1\";\"the \"\"main\"\" pole\"\n")).getFirst();
+
+        assertThat(row.get("code")).isEqualTo("P;1");
+        assertThat(row.get("name")).isEqualTo("the \"main\" pole");
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFields() {
+        List<ImportRow> rows = rows(reader("code;name\nP1;\"first\nsecond\"\nP2;Pole 2\n"));
+
+        assertThat(rows.getFirst().get("name")).isEqualTo("first\nsecond");
+        // The second record starts after the line break of the quoted field
+        assertThat(rows).extracting(ImportRow::lineNumber).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void dropsCarriageReturnsOfCrlfLineEndings() {
+        List<ImportRow> rows = rows(reader("code;name\r\nP1;Pole 1\r\nP2;Pole 2"));
+
+        assertThat(rows).extracting(row -> row.get("name")).containsExactly("Pole 1", "Pole 2");
+        assertThat(rows).extracting(ImportRow::lineNumber).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void skipsTheByteOrderMark() {
+        CsvRowReader reader = reader("\uFEFFcode;name\nP1;Pole 1\n");
+
+        assertThat(reader.getColumns()).containsExactly("code", "name");
+        assertThat(rows(reader).getFirst().get("code")).isEqualTo("P1");
+    }
+
+    @Test
+    void skipsBlankLinesAndKeepsLineNumbers() {
+        List<ImportRow> rows = rows(reader("code;name\n\nP1;Pole 1\r\n\r\n\nP2;Pole 2\n\n"));
+
+        assertThat(rows).extracting(row -> row.get("code")).containsExactly("P1", "P2");
+        assertThat(rows).extracting(ImportRow::lineNumber).containsExactly(3L, 6L);
+    }
+
+    @Test
+    void readsAQuotedEmptyValueAsARecord() {
+        List<ImportRow> rows = rows(reader("code\n\"\"\nP1\n"));
+
+        assertThat(rows).extracting(row -> row.get("code")).containsExactly("", "P1");
+        assertThat(rows).extracting(ImportRow::lineNumber).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void returnsNullForMissingValues() {
+        ImportRow row = rows(reader("code;name;type\nP1;Pole 1\n")).getFirst();
+
+        assertThat(row.get("type")).isNull();
+        assertThat(row.get("unknown")).isNull();
+    }
+
+    @Test
+    void staysAtTheEndOfTheInput() {
+        CsvRowReader reader = reader("code\nP1");
+
+        assertThat(reader.next().get("code")).isEqualTo("P1");
+        assertThat(reader.hasNext()).isFalse();
+        assertThat(reader.hasNext()).isFalse();
+        assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void readsAnEmptyInput() {
+        CsvRowReader reader = reader("");
+
+        assertThat(reader.getColumns()).isEmpty();
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    private static CsvRowReader reader(String content) {
+        return new CsvRowReader(new StringReader(content), ';');
+    }
+
+    private static List<ImportRow> rows(CsvRowReader reader) {
+        List<ImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
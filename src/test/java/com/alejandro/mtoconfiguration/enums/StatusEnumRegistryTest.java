@@ -0,0 +1,119 @@
+package com.alejandro.mtoconfiguration.enums;
+
+import com.alejandro.mtoconfiguration.enums.infrastructure.PoleTypeValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusEnumRegistryTest {
+
+    @Test
+    void ignoresCase() {
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "g")).isEqualTo(Signal.GREEN);
+        assertThat(StatusEnumRegistry.fromName(Signal.class, "Green")).isEqualTo(Signal.GREEN);
+        assertThat(StatusEnumRegistry.fromDescription(Signal.class, "PROCEED")).isEqualTo(Signal.GREEN);
+        // Folded like String.equalsIgnoreCase: the Kelvin sign matches 'k'
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "\u212Am")).isEqualTo(Signal.KILOMETRE_POST);
+    }
+
+    @Test
+    void resolvesEveryConstantOfALargerEnum() {
+        for (PoleTypeValue value : PoleTypeValue.values()) {
+            assertThat(StatusEnumRegistry.fromCode(PoleTypeValue.class, value.getCode().toLowerCase(Locale.ROOT))).isEqualTo(value);
+            assertThat(StatusEnumRegistry.fromName(PoleTypeValue.class, value.name())).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void returnsNullForNullOrUnknownValues() {
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, null)).isNull();
+        assertThat(StatusEnumRegistry.fromName(Signal.class, null)).isNull();
+        assertThat(StatusEnumRegistry.lookup(Signal.class, null)).isNull();
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "")).isNull();
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "blue")).isNull();
+    }
+
+    @Test
+    void skipsConstantsWithoutCode() {
+        assertThat(StatusEnumRegistry.fromName(Signal.class, "UNKNOWN")).isEqualTo(Signal.UNKNOWN);
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "null")).isNull();
+    }
+
+    @Test
+    void keepsTheFirstConstantOfADuplicateCode() {
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "R")).isEqualTo(Signal.RED);
+        assertThat(StatusEnumRegistry.fromCode(Signal.class, "r")).isEqualTo(Signal.RED);
+        assertThat(StatusEnumRegistry.fromName(Signal.class, "RED_FLASHING")).isEqualTo(Signal.RED_FLASHING);
+    }
+
+    @Test
+    void doesNotIndexSharedDescriptions() {
+        assertThat(StatusEnumRegistry.fromDescription(Signal.class, "stop")).isNull();
+        assertThat(StatusEnumRegistry.lookup(Signal.class, "stop")).isNull();
+    }
+
+    @Test
+    void looksUpByCodeThenNameThenDescription() {
+        assertThat(StatusEnumRegistry.lookup(Signal.class, "g")).isEqualTo(Signal.GREEN);
+        assertThat(StatusEnumRegistry.lookup(Signal.class, "red_flashing")).isEqualTo(Signal.RED_FLASHING);
+        assertThat(StatusEnumRegistry.lookup(Signal.class, "proceed")).isEqualTo(Signal.GREEN);
+    }
+
+    @Test
+    void handlesAnEmptyEnum() {
+        assertThat(StatusEnumRegistry.fromCode(Empty.class, "any")).isNull();
+        assertThat(StatusEnumRegistry.lookup(Empty.class, "any")).isNull();
+    }
+
+    enum Signal implements IStatusEnum {
+        GREEN("G", "Proceed"),
+        RED("R", "Stop"),
+        RED_FLASHING("r", "Stop"),
+        KILOMETRE_POST("KM", "Kilometre post"),
+        UNKNOWN(null, null);
+
+        private final String code;
+        private final String description;
+
+        Signal(String code, String description) {
+            this.code = code;
+            this.description = description;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String getName() {
+            return name();
+        }
+    }
+
+    enum Empty implements IStatusEnum {
+        ;
+
+        @Override
+        public String getCode() {
+            return null;
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return name();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.alejandro.mtoconfiguration.repository.feign.resilience;
+
+import com.alejandro.mtoconfiguration.constant.RailwayInfrastructureExceptions;
+import com.alejandro.mtoconfiguration.core.exception.RailwayInfrastructureException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the resilience policies against a local stub HTTP server through the plain Feign client
+ */
+class ResilientFeignClientTest {
+
+    private static final Request.Options OPTIONS = new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger hits = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ResilientFeignClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+
+        server.createContext("/ok", exchange -> respond(exchange, 200, "ok"));
+        server.createContext("/unavailable", exchange -> respond(exchange, 503, "unavailable"));
+        server.createContext("/not-found", exchange -> respond(exchange, 404, "not found"));
+        server.createContext("/blocking", exchange -> {
+            hits.incrementAndGet();
+            await();
+            send(exchange, 200, "late");
+        });
+        // The first call hangs, the following ones answer at once
+        server.createContext("/first-slow", exchange -> {
+            if (hits.incrementAndGet() == 1) {
+                await();
+                send(exchange, 200, "first");
+            } else {
+                send(exchange, 200, "second");
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        if (client != null) {
+            client.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void rejectsCallsOverTheBulkhead() throws Exception {
+        FeignResilienceConfig.Policy policy = policy();
+        policy.setMaxConcurrentCalls(1);
+        policy.setMaxWait(Duration.ofMillis(20));
+        client = client(policy);
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<Response> inFlight = caller.submit(() -> client.execute(request("GET", "/blocking"), OPTIONS));
+            awaitHits(1);
+
+            assertThatThrownBy(() -> client.execute(request("GET", "/ok"), OPTIONS))
+                    .isInstanceOf(RailwayInfrastructureException.class)
+                    .extracting("code").isEqualTo(RailwayInfrastructureExceptions.RIE005.getCode());
+            assertThat(meterRegistry.counter("mto.feign.resilience", "client", "default", "event", "rejected").count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS).status()).isEqualTo(200);
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void failsWithDeadlineExceeded() {
+        FeignResilienceConfig.Policy policy = policy();
+        policy.setDeadline(Duration.ofMillis(200));
+        policy.setMaxAttempts(10);
+        client = client(policy);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.execute(request("GET", "/blocking"), OPTIONS))
+                .isInstanceOf(RailwayInfrastructureException.class)
+                .extracting("code").isEqualTo(RailwayInfrastructureExceptions.RIE006.getCode());
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void retriesRetryableStatuses() throws IOException {
+        client = client(policy());
+
+        try (Response response = client.execute(request("GET", "/unavailable"), OPTIONS)) {
+            assertThat(response.status()).isEqualTo(503);
+        }
+        assertThat(hits.get()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotRetryNonRetryableStatuses() throws IOException {
+        client = client(policy());
+
+        try (Response response = client.execute(request("GET", "/not-found"), OPTIONS)) {
+            assertThat(response.status()).isEqualTo(404);
+        }
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentCallsThatReachedTheServer() throws IOException {
+        client = client(policy());
+
+        try (Response response = client.execute(request("POST", "/unavailable"), OPTIONS)) {
+            assertThat(response.status()).isEqualTo(503);
+        }
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgedGetReturnsTheFirstResponse() throws IOException {
+        FeignResilienceConfig.Policy policy = policy();
+        policy.setHedgeEnabled(true);
+        policy.setHedgeDelay(Duration.ofMillis(50));
+        client = client(policy);
+
+        long start = System.nanoTime();
+        try (Response response = client.execute(request("GET", "/first-slow"), OPTIONS)) {
+            assertThat(response.status()).isEqualTo(200);
+            assertThat(new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("second");
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("mto.feign.resilience", "client", "default", "event", "hedge").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void hedgedGetRethrowsTheDelegateFailure() {
+        FeignResilienceConfig.Policy policy = policy();
+        policy.setHedgeEnabled(true);
+        policy.setHedgeDelay(Duration.ofMillis(50));
+        policy.setMaxAttempts(1);
+        client = client(policy, (request, options) -> {
+            hits.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> client.execute(request("GET", "/ok"), OPTIONS))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedgedGetRethrowsTheIOException() {
+        FeignResilienceConfig.Policy policy = policy();
+        policy.setHedgeEnabled(true);
+        policy.setHedgeDelay(Duration.ofMillis(50));
+        policy.setMaxAttempts(1);
+        client = client(policy, (request, options) -> {
+            throw new ConnectException("refused");
+        });
+
+        assertThatThrownBy(() -> client.execute(request("GET", "/ok"), OPTIONS))
+                .isExactlyInstanceOf(ConnectException.class)
+                .hasMessage("refused");
+    }
+
+    private FeignResilienceConfig.Policy policy() {
+        FeignResilienceConfig.Policy policy = new FeignResilienceConfig.Policy();
+        policy.setInitialBackoff(Duration.ofMillis(1));
+        policy.setMaxBackoff(Duration.ofMillis(5));
+        return policy;
+    }
+
+    private ResilientFeignClient client(FeignResilienceConfig.Policy policy) {
+        return client(policy, new Client.Default(null, null));
+    }
+
+    private ResilientFeignClient client(FeignResilienceConfig.Policy policy, Client delegate) {
+        FeignResilienceConfig resilienceConfig = new FeignResilienceConfig();
+        resilienceConfig.setDefaults(policy);
+        return new ResilientFeignClient(delegate, resilienceConfig, meterRegistry);
+    }
+
+    private Request request(String method, String path) {
+        String url = "http://localhost:" + server.getAddress().getPort() + path;
+        byte[] body = "POST".equals(method) ? new byte[0] : null;
+        return Request.create(Request.HttpMethod.valueOf(method), url, Map.of(), body, StandardCharsets.UTF_8, null);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) {
+        hits.incrementAndGet();
+        send(exchange, status, body);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(status, bytes.length);
+            outputStream.write(bytes);
+        } catch (IOException e) {
+            // The client gave up on the call
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitHits(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hits.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
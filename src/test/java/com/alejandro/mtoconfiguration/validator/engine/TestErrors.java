@@ -0,0 +1,27 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCatalogEntry;
+import com.alejandro.mtoconfiguration.validator.commons.ErrorCode;
+import com.alejandro.mtoconfiguration.validator.commons.ErrorType;
+import com.alejandro.mtoconfiguration.validator.commons.Severity;
+
+/**
+ * Catalog entries of every severity for the engine tests
+ */
+enum TestErrors implements ErrorCatalogEntry {
+    NOTICE(Severity.INFO, "Aviso sobre '%s'"),
+    SUSPICIOUS(Severity.WARNING, "El valor '%s' es sospechoso"),
+    INVALID(Severity.ERROR, "El valor '%s' no es válido"),
+    BLOCKING(Severity.CRITICAL, "El valor '%s' impide validar la fila");
+
+    private final ErrorCode errorCode;
+
+    TestErrors(Severity severity, String messageTemplate) {
+        this.errorCode = new ErrorCode("TEST_" + name(), ErrorType.VALIDATION, severity, messageTemplate, false);
+    }
+
+    @Override
+    public ErrorCode errorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,102 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import com.alejandro.mtoconfiguration.model.commons.AlertLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationEngineTest {
+
+    private static final int ITEMS = 1000;
+    private static final int FAILING_ITEM = 500;
+
+    private ValidationEngine engine;
+
+    @BeforeEach
+    void createEngine() {
+        ValidationEngineConfig config = new ValidationEngineConfig();
+        config.setParallelism(4);
+        // Small chunks, so the batch is split across many fork-join tasks
+        config.setChunkSize(8);
+
+        engine = new ValidationEngine(config, new StaticListableBeanFactory().getBeanProvider(ResolvableType.forClass(ValidationPlanDefinition.class)));
+        engine.register(new ValidationPlanDefinition<Integer>() {
+            @Override
+            public Class<Integer> getType() {
+                return Integer.class;
+            }
+
+            @Override
+            public void define(ValidationPlan.Builder<Integer> builder) {
+                builder.check(TestErrors.INVALID, item -> item % 3 != 0, item -> new Object[]{item}, "value")
+                        .check(TestErrors.NOTICE, item -> {
+                            if (item == FAILING_ITEM) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return true;
+                        }, item -> ValidationRule.NO_ARGS, "value");
+            }
+        });
+    }
+
+    @AfterEach
+    void shutdown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void keepsTheOrderOfTheBatchAcrossSplits() {
+        List<Integer> items = IntStream.range(0, ITEMS).boxed().toList();
+
+        List<List<Alert>> results = engine.validateAll(items, Integer.class);
+
+        assertThat(results).hasSize(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            List<Alert> alerts = results.get(i);
+            if (i == FAILING_ITEM) {
+                continue;
+            }
+            if (i % 3 == 0) {
+                assertThat(alerts).extracting(Alert::getMessage).containsExactly("El valor '" + i + "' no es válido");
+            } else {
+                assertThat(alerts).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void rejectsOnlyTheItemWhoseRuleFailed() {
+        List<Integer> items = IntStream.range(0, ITEMS).boxed().toList();
+
+        List<List<Alert>> results = engine.validateAll(items, Integer.class);
+
+        assertThat(results.get(FAILING_ITEM)).singleElement().satisfies(alert -> {
+            assertThat(alert.getLevel()).isEqualTo(AlertLevel.DANGER);
+            assertThat(alert.getMessage()).isEqualTo(ValidationPlan.RULE_FAILURE_MESSAGE);
+            assertThat(alert.getDetails()).isEqualTo("boom");
+        });
+        // Every multiple of 3, plus the failing item
+        long invalid = items.stream().filter(item -> item % 3 == 0).count();
+        assertThat(engine.validateAllFlat(items, Integer.class)).hasSize((int) invalid + 1);
+    }
+
+    @Test
+    void validatesSmallBatchesOnTheCallerThread() {
+        List<List<Alert>> results = engine.validateAll(List.of(1, 3, 4), Integer.class);
+
+        assertThat(results).extracting(List::size).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void usesAnEmptyPlanForUnregisteredTypes() {
+        assertThat(engine.validateAll(List.of("a", "b"), String.class)).containsExactly(List.of(), List.of());
+    }
+}
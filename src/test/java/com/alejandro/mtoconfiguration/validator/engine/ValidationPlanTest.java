@@ -0,0 +1,84 @@
+package com.alejandro.mtoconfiguration.validator.engine;
+
+import com.alejandro.mtoconfiguration.model.commons.Alert;
+import com.alejandro.mtoconfiguration.model.commons.AlertLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationPlanTest {
+
+    @Test
+    void returnsTheSharedEmptyListForValidItems() {
+        ValidationPlan<Pole> plan = ValidationPlan.builder(Pole.class)
+                .required("code", Pole::code, TestErrors.INVALID)
+                .build();
+
+        assertThat(plan.validate(new Pole("P1", 10))).isSameAs(List.of());
+    }
+
+    @Test
+    void runsCriticalRulesFirstAndStopsAtTheFirstViolation() {
+        ValidationPlan<Pole> plan = ValidationPlan.builder(Pole.class)
+                .required("code", Pole::code, TestErrors.INVALID)
+                .check(TestErrors.BLOCKING, pole -> pole.height() != null, pole -> new Object[]{"height"}, "height")
+                .check(TestErrors.BLOCKING, pole -> pole.height() == null || pole.height() > 0, pole -> new Object[]{pole.height()}, "height")
+                .build();
+
+        List<Alert> alerts = plan.validate(new Pole(null, null));
+
+        assertThat(alerts).extracting(Alert::getDetails).containsExactly("TEST_BLOCKING");
+        assertThat(alerts).extracting(Alert::getMessage).containsExactly("El valor 'height' impide validar la fila");
+    }
+
+    @Test
+    void keepsTheDeclarationOrderOfNonCriticalRules() {
+        ValidationPlan<Pole> plan = ValidationPlan.builder(Pole.class)
+                .check(TestErrors.SUSPICIOUS, pole -> pole.height() < 100, pole -> new Object[]{pole.height()}, "height")
+                .required("code", Pole::code, TestErrors.INVALID)
+                .check(TestErrors.NOTICE, pole -> false, pole -> new Object[]{"code"}, "code")
+                .check(TestErrors.BLOCKING, pole -> pole.height() != null, pole -> new Object[]{"height"}, "height")
+                .build();
+
+        List<Alert> alerts = plan.validate(new Pole(" ", 120));
+
+        assertThat(alerts).extracting(Alert::getDetails).containsExactly("TEST_SUSPICIOUS", "TEST_INVALID", "TEST_NOTICE");
+    }
+
+    @Test
+    void mapsSeveritiesToAlertLevels() {
+        ValidationPlan<Pole> plan = ValidationPlan.builder(Pole.class)
+                .check(TestErrors.NOTICE, pole -> false, pole -> new Object[]{"code"}, "code")
+                .check(TestErrors.SUSPICIOUS, pole -> false, pole -> new Object[]{pole.height()}, "height")
+                .check(TestErrors.INVALID, pole -> false, pole -> new Object[]{pole.code()}, "code")
+                .build();
+
+        List<Alert> alerts = plan.validate(new Pole("P1", 10));
+
+        assertThat(alerts).extracting(Alert::getLevel).containsExactly(AlertLevel.INFO, AlertLevel.WARNING, AlertLevel.DANGER);
+        assertThat(alerts).extracting(Alert::getMessage)
+                .containsExactly("Aviso sobre 'code'", "El valor '10' es sospechoso", "El valor 'P1' no es válido");
+        assertThat(alerts.get(1).getFields()).containsExactly("height");
+    }
+
+    @Test
+    void turnsAFailingRuleIntoADangerAlertOfTheItem() {
+        ValidationPlan<Pole> plan = ValidationPlan.builder(Pole.class)
+                .check(TestErrors.INVALID, pole -> pole.code().length() < 5, pole -> new Object[]{pole.code()}, "code")
+                .check(TestErrors.INVALID, pole -> false, pole -> new Object[]{pole.height()}, "height")
+                .build();
+
+        List<Alert> alerts = plan.validate(new Pole(null, 10));
+
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.getFirst().getLevel()).isEqualTo(AlertLevel.DANGER);
+        assertThat(alerts.getFirst().getMessage()).isEqualTo(ValidationPlan.RULE_FAILURE_MESSAGE);
+        assertThat(alerts.getFirst().getFields()).containsExactly("code");
+        assertThat(plan.validate(new Pole("P1", 10))).extracting(Alert::getFields).containsExactly(List.of("height"));
+    }
+
+    record Pole(String code, Integer height) {
+    }
+}